@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.ferstl.maven.pomenforcers.model.ArtifactModel;
+import com.github.ferstl.maven.pomenforcers.model.CompiledArtifactPattern;
+import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
+
+/**
+ * Measures matching all dependencies of a POM against a list of wildcard patterns, as done e.g. for the allowed
+ * dependency scopes. The patterns are either compiled on each match or compiled once up front.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ArtifactMatchingBenchmark {
+
+  private static final ArtifactModel[] PATTERNS = {
+      new ArtifactModel("com.example.group1", "artifact-1"),
+      new ArtifactModel("com.example.group2", "*"),
+      new ArtifactModel("com.example.*", "artifact-3*"),
+      new ArtifactModel("*.group4", "*-4"),
+      new ArtifactModel("*example*", "*fact-5*"),
+      new ArtifactModel("*", "*")
+  };
+
+  @Param({"10", "100", "1000", "10000"})
+  public int dependencies;
+
+  private List<DependencyModel> models;
+  private CompiledArtifactPattern[] compiledPatterns;
+
+  @Setup
+  public void setUp() {
+    this.models = BenchmarkPoms.createDependencyModels(this.dependencies, false);
+    this.compiledPatterns = new CompiledArtifactPattern[PATTERNS.length];
+    for (int i = 0; i < PATTERNS.length; i++) {
+      this.compiledPatterns[i] = CompiledArtifactPattern.compile(PATTERNS[i]);
+    }
+  }
+
+  @Benchmark
+  public int matches() {
+    int matches = 0;
+    for (DependencyModel model : this.models) {
+      for (ArtifactModel pattern : PATTERNS) {
+        if (model.matches(pattern)) {
+          matches++;
+        }
+      }
+    }
+    return matches;
+  }
+
+  @Benchmark
+  public int matchesCompiled() {
+    int matches = 0;
+    for (DependencyModel model : this.models) {
+      for (CompiledArtifactPattern pattern : this.compiledPatterns) {
+        if (pattern.matches(model)) {
+          matches++;
+        }
+      }
+    }
+    return matches;
+  }
+}
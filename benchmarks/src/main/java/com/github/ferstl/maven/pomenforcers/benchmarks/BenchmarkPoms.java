@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import org.apache.maven.enforcer.rule.api.EnforcerRuleHelper;
+import org.apache.maven.model.Dependency;
+import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
+
+/**
+ * Generates the POMs and models used by the benchmarks. All data is derived from a fixed seed, so every run of a
+ * benchmark works on the same input.
+ */
+final class BenchmarkPoms {
+
+  private static final long SEED = 0x5EED;
+
+  private BenchmarkPoms() {
+    throw new AssertionError("Not instantiable");
+  }
+
+  /**
+   * Creates a POM with the given number of dependencies. The dependencies are in random order and every tenth version
+   * is a property reference.
+   *
+   * @param dependencyCount Number of dependencies.
+   * @return The POM's XML.
+   */
+  static String createPom(int dependencyCount) {
+    StringBuilder pom = new StringBuilder(256 + dependencyCount * 192)
+        .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+        .append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n")
+        .append("  <modelVersion>4.0.0</modelVersion>\n")
+        .append("  <groupId>com.example.benchmark</groupId>\n")
+        .append("  <artifactId>benchmark-").append(dependencyCount).append("</artifactId>\n")
+        .append("  <version>1.0.0</version>\n")
+        .append("  <properties>\n");
+
+    for (int i = 0; i < dependencyCount; i += 10) {
+      pom.append("    <dep").append(i).append(".version>").append(version(i)).append("</dep").append(i).append(".version>\n");
+    }
+
+    pom.append("  </properties>\n")
+        .append("  <dependencies>\n");
+
+    for (DependencyModel dependency : createDependencyModels(dependencyCount, true)) {
+      pom.append("    <dependency>\n")
+          .append("      <groupId>").append(dependency.getGroupId()).append("</groupId>\n")
+          .append("      <artifactId>").append(dependency.getArtifactId()).append("</artifactId>\n")
+          .append("      <version>").append(dependency.getVersion()).append("</version>\n")
+          .append("    </dependency>\n");
+    }
+
+    return pom.append("  </dependencies>\n")
+        .append("</project>\n")
+        .toString();
+  }
+
+  static List<DependencyModel> createDependencyModels(int dependencyCount, boolean shuffled) {
+    List<DependencyModel> dependencies = new ArrayList<>(dependencyCount);
+    for (int i = 0; i < dependencyCount; i++) {
+      String version = i % 10 == 0 ? "${dep" + i + ".version}" : version(i);
+      dependencies.add(new DependencyModel(groupId(i), artifactId(i), version, null, null, null));
+    }
+
+    if (shuffled) {
+      Collections.shuffle(dependencies, new Random(SEED));
+    }
+    return dependencies;
+  }
+
+  /**
+   * Creates the resolved Maven dependencies corresponding to {@link #createDependencyModels(int, boolean)}.
+   *
+   * @param dependencyCount Number of dependencies.
+   * @return The resolved dependencies.
+   */
+  static List<Dependency> createMavenDependencies(int dependencyCount) {
+    List<Dependency> dependencies = new ArrayList<>(dependencyCount);
+    for (int i = 0; i < dependencyCount; i++) {
+      Dependency dependency = new Dependency();
+      dependency.setGroupId(groupId(i));
+      dependency.setArtifactId(artifactId(i));
+      dependency.setVersion(version(i));
+      dependency.setScope("compile");
+      dependency.setType("jar");
+      dependencies.add(dependency);
+    }
+
+    Collections.shuffle(dependencies, new Random(SEED + 1));
+    return dependencies;
+  }
+
+  static Properties createProperties(int dependencyCount) {
+    Properties properties = new Properties();
+    for (int i = 0; i < dependencyCount; i += 10) {
+      properties.setProperty("dep" + i + ".version", version(i));
+    }
+    return properties;
+  }
+
+  /**
+   * Creates an {@link EnforcerRuleHelper} that resolves <code>${...}</code> expressions from the given properties.
+   * All other methods are not supported.
+   *
+   * @param properties The properties to resolve.
+   * @return The helper.
+   */
+  static EnforcerRuleHelper createHelper(Properties properties) {
+    return (EnforcerRuleHelper) Proxy.newProxyInstance(
+        BenchmarkPoms.class.getClassLoader(),
+        new Class<?>[]{EnforcerRuleHelper.class},
+        (proxy, method, args) -> {
+          switch (method.getName()) {
+            case "evaluate":
+              String expression = (String) args[0];
+              return properties.getProperty(expression.substring(2, expression.length() - 1), expression);
+            case "hashCode":
+              return System.identityHashCode(proxy);
+            case "equals":
+              return proxy == args[0];
+            case "toString":
+              return "BenchmarkHelper";
+            default:
+              throw new UnsupportedOperationException(method.getName());
+          }
+        });
+  }
+
+  private static String groupId(int i) {
+    return "com.example.group" + (i % 50);
+  }
+
+  private static String artifactId(int i) {
+    return "artifact-" + i;
+  }
+
+  private static String version(int i) {
+    return "1." + (i % 7) + "." + (i % 13);
+  }
+}
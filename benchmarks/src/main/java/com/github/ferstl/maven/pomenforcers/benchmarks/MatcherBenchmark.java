@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.maven.model.Dependency;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
+import com.github.ferstl.maven.pomenforcers.model.functions.DependencyMatcher;
+import com.google.common.collect.BiMap;
+
+/**
+ * Measures the matching of declared dependencies with the resolved Maven dependencies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MatcherBenchmark {
+
+  @Param({"10", "100", "1000", "10000"})
+  public int dependencies;
+
+  private DependencyMatcher matcher;
+  private List<Dependency> superset;
+  private List<DependencyModel> subset;
+
+  @Setup
+  public void setUp() {
+    this.matcher = new DependencyMatcher(BenchmarkPoms.createHelper(BenchmarkPoms.createProperties(this.dependencies)));
+    this.superset = BenchmarkPoms.createMavenDependencies(this.dependencies);
+    this.subset = BenchmarkPoms.createDependencyModels(this.dependencies, true);
+  }
+
+  @Benchmark
+  public BiMap<DependencyModel, DependencyModel> match() {
+    return this.matcher.match(this.superset, this.subset);
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.ferstl.maven.pomenforcers.model.DependencyElement;
+import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
+import com.github.ferstl.maven.pomenforcers.priority.CompoundPriorityOrdering;
+import com.google.common.collect.ImmutableList;
+import static java.util.Arrays.asList;
+
+/**
+ * Measures the order check and the sorting of dependencies by <code>groupId</code> and <code>artifactId</code> with
+ * group ID priorities, which is what the dependency order enforcers do for every POM. The single comparison in
+ * {@link #compare()} shows the allocations per comparison when run with <code>-prof gc</code>. Since the compound
+ * ordering is reused, a comparison does not allocate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class OrderingBenchmark {
+
+  @Param({"10", "100", "1000", "10000"})
+  public int dependencies;
+
+  private CompoundPriorityOrdering<DependencyModel, String, DependencyElement> ordering;
+  private List<DependencyModel> unsorted;
+  private List<DependencyModel> sorted;
+
+  @Setup
+  public void setUp() {
+    this.ordering = CompoundPriorityOrdering.orderBy(DependencyElement.GROUP_ID, DependencyElement.ARTIFACT_ID);
+    this.ordering.setPriorities(DependencyElement.GROUP_ID, asList("com.example.group1", "com.example.group4"));
+    this.unsorted = BenchmarkPoms.createDependencyModels(this.dependencies, true);
+    this.sorted = this.ordering.immutableSortedCopy(this.unsorted);
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public int compare() {
+    return this.ordering.compare(this.unsorted.get(0), this.unsorted.get(this.unsorted.size() - 1));
+  }
+
+  @Benchmark
+  public boolean isOrderedSorted() {
+    return this.ordering.isOrdered(this.sorted);
+  }
+
+  @Benchmark
+  public boolean isOrderedUnsorted() {
+    return this.ordering.isOrdered(this.unsorted);
+  }
+
+  @Benchmark
+  public ImmutableList<DependencyModel> immutableSortedCopy() {
+    return this.ordering.immutableSortedCopy(this.unsorted);
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.benchmarks;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.apache.maven.enforcer.rule.api.EnforcerRuleHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
+import com.github.ferstl.maven.pomenforcers.util.EnforcerRuleUtils;
+
+/**
+ * Measures the property evaluation of all dependency versions of a POM. The <code>cold</code> benchmark uses a new
+ * helper, and therefore an empty property cache, in each invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PropertyEvaluationBenchmark {
+
+  @Param({"10", "100", "1000", "10000"})
+  public int dependencies;
+
+  private Properties properties;
+  private EnforcerRuleHelper helper;
+  private List<DependencyModel> models;
+
+  @Setup
+  public void setUp() {
+    this.properties = BenchmarkPoms.createProperties(this.dependencies);
+    this.helper = BenchmarkPoms.createHelper(this.properties);
+    this.models = BenchmarkPoms.createDependencyModels(this.dependencies, false);
+  }
+
+  @Benchmark
+  public void cold(Blackhole blackhole) {
+    evaluate(BenchmarkPoms.createHelper(this.properties), blackhole);
+  }
+
+  @Benchmark
+  public void warm(Blackhole blackhole) {
+    evaluate(this.helper, blackhole);
+  }
+
+  private void evaluate(EnforcerRuleHelper helper, Blackhole blackhole) {
+    for (DependencyModel model : this.models) {
+      blackhole.consume(EnforcerRuleUtils.evaluateProperties(model.getVersion(), helper));
+    }
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.ferstl.maven.pomenforcers.PedanticPomChecker;
+import com.github.ferstl.maven.pomenforcers.SyntheticReactor;
+
+/**
+ * Measures the end-to-end time to check all POM files of a generated reactor with the {@link PedanticPomChecker}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ReactorBenchmark {
+
+  @Param({"100", "1000", "2000"})
+  public int modules;
+
+  @Param({"20"})
+  public int dependencies;
+
+  @Param({"0.1"})
+  public double unsortedRatio;
+
+  private Path directory;
+  private SyntheticReactor reactor;
+  private PedanticPomChecker checker;
+
+  @Setup
+  public void setUp() throws IOException {
+    this.directory = Files.createTempDirectory("synthetic-reactor");
+    this.reactor = SyntheticReactor.builder()
+        .modules(this.modules)
+        .dependencies(this.dependencies)
+        .managedDependencies(Math.max(this.dependencies, 500))
+        .bomImports(5)
+        .propertyCoordinates(true)
+        .unsortedRatio(this.unsortedRatio)
+        .write(this.directory);
+
+    Map<String, String> configuration = new HashMap<>();
+    configuration.put("checkDependencyManagementElements", "true");
+    this.checker = new PedanticPomChecker(configuration);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    try (Stream<Path> files = Files.walk(this.directory)) {
+      files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+    }
+  }
+
+  @Benchmark
+  public SortedMap<Path, String> check() {
+    return this.checker.check(Collections.singleton(this.reactor.getRoot()));
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+import javax.xml.bind.JAXB;
+import javax.xml.transform.dom.DOMSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import com.github.ferstl.maven.pomenforcers.model.ProjectModel;
+import com.github.ferstl.maven.pomenforcers.model.ProjectModelReader;
+import com.github.ferstl.maven.pomenforcers.model.ProjectModelUnmarshaller;
+import com.github.ferstl.maven.pomenforcers.util.XmlUtils;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Compares DOM parsing of a POM with the JAXB unmarshalling of the parsed DOM into a {@link ProjectModel}. The
+ * <code>unmarshal</code> benchmark uses the {@link JAXB} convenience API as baseline for the pooled unmarshallers of
+ * the {@link ProjectModelUnmarshaller}. The <code>readStax</code> benchmark reads the model directly from the POM
+ * content with the {@link ProjectModelReader}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class XmlParsingBenchmark {
+
+  private static final String SYSTEM_ID = "benchmark:pom.xml";
+
+  @Param({"10", "100", "1000", "10000"})
+  public int dependencies;
+
+  private byte[] pom;
+  private Document document;
+
+  @Setup
+  public void setUp() {
+    this.pom = BenchmarkPoms.createPom(this.dependencies).getBytes(UTF_8);
+    this.document = XmlUtils.parseXml(new ByteArrayInputStream(this.pom), SYSTEM_ID);
+  }
+
+  @Benchmark
+  public Document parseXml() {
+    return XmlUtils.parseXml(new ByteArrayInputStream(this.pom), SYSTEM_ID);
+  }
+
+  @Benchmark
+  public ProjectModel unmarshal() {
+    return JAXB.unmarshal(new DOMSource(this.document), ProjectModel.class);
+  }
+
+  @Benchmark
+  public ProjectModel unmarshalPooled() {
+    return ProjectModelUnmarshaller.unmarshal(new DOMSource(this.document));
+  }
+
+  @Benchmark
+  public ProjectModel readStax() {
+    return ProjectModelReader.read(new ByteArrayInputStream(this.pom), SYSTEM_ID);
+  }
+
+  @Benchmark
+  public ProjectModel parseAndUnmarshal() {
+    Document parsed = XmlUtils.parseXml(new ByteArrayInputStream(this.pom), SYSTEM_ID);
+    return ProjectModelUnmarshaller.unmarshal(new DOMSource(parsed));
+  }
+}
@@ -120,6 +120,11 @@ abstract class AbstractPedanticDependencyOrderEnforcer extends AbstractPedanticE
   protected abstract void reportError(
       ErrorReport report, Collection<DependencyModel> resolvedDependencies, Collection<DependencyModel> sortedDependencies);
 
+  @Override
+  protected Set<RuleRequirement> getRequirements() {
+    return EnumSet.of(RuleRequirement.PROJECT_MODEL, RuleRequirement.RESOLVED_PROJECT);
+  }
+
   @Override
   protected final void doEnforce(ErrorReport report) {
     MavenProject mavenProject = EnforcerRuleUtils.getMavenProject(getHelper());
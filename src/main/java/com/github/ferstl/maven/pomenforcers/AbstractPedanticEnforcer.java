@@ -15,23 +15,51 @@
  */
 package com.github.ferstl.maven.pomenforcers;
 
-import javax.xml.bind.JAXB;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 import org.apache.maven.enforcer.rule.api.EnforcerLevel;
 import org.apache.maven.enforcer.rule.api.EnforcerRule;
 import org.apache.maven.enforcer.rule.api.EnforcerRule2;
 import org.apache.maven.enforcer.rule.api.EnforcerRuleException;
 import org.apache.maven.enforcer.rule.api.EnforcerRuleHelper;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Model;
 import org.apache.maven.project.MavenProject;
 import org.w3c.dom.Document;
 import com.github.ferstl.maven.pomenforcers.model.ProjectModel;
+import com.github.ferstl.maven.pomenforcers.util.EnforcerEvents;
 import com.github.ferstl.maven.pomenforcers.util.EnforcerRuleUtils;
-import com.github.ferstl.maven.pomenforcers.util.XmlUtils;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.LinkedListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Multimap;
+import com.google.common.collect.SortedSetMultimap;
+import com.google.common.collect.TreeMultimap;
+import static java.util.stream.Collectors.joining;
 
 public abstract class AbstractPedanticEnforcer implements EnforcerRule2 {
 
   private EnforcerRuleHelper helper;
-  private Document pom;
-  private ProjectModel projectModel;
+  private Supplier<Document> pom;
+  private Supplier<ProjectModel> projectModel;
+  private Supplier<InputStream> pomContent;
 
   /**
    * If set to <code>true</code>, the enforcer rule will only issue a warning in the log and not fail the build.
@@ -43,20 +71,135 @@ public abstract class AbstractPedanticEnforcer implements EnforcerRule2 {
    */
   private boolean warnOnly;
 
+  /**
+   * Maximum number of parsed POM files that are kept in memory during a Maven session. Parsed POM files are shared
+   * between all pedantic enforcer rules and executions, so each POM file is parsed only once as long as it does not
+   * change. Since the cache is shared, the value of the most recently executed rule applies. Set this option to
+   * <code>0</code> to disable caching.
+   *
+   * @configParam
+   * @default 100
+   * @since 2.2.1
+   */
+  private int pomCacheSize = PomSnapshotCache.DEFAULT_MAXIMUM_SIZE;
+
+  /**
+   * Directory of the persistent result cache, e.g. <code>${user.home}/.m2/pedantic-cache</code>. If set, the results
+   * of this rule are stored in this directory and reused in subsequent builds as long as the POM file, its parent POM
+   * files, the rule configuration and the resolved project do not change. The persistent result cache is disabled by
+   * default.
+   *
+   * @configParam
+   * @default n/a
+   * @since 2.2.1
+   */
+  private File resultCacheDirectory;
+
+  /**
+   * Maximum number of entries in the persistent result cache. The cache holds one entry per rule configuration and
+   * module. The least recently used entries are evicted when this size is exceeded.
+   *
+   * @configParam
+   * @default 10000
+   * @since 2.2.1
+   */
+  private int resultCacheSize = PersistentResultCache.DEFAULT_MAXIMUM_SIZE;
+
+  /**
+   * Read the project model of the POM file with a StAX reader instead of unmarshalling it with JAXB. The StAX reader
+   * skips all POM sections which are not used by the rules and does not keep the configuration of plugins.
+   *
+   * @configParam
+   * @default false
+   * @since 2.2.1
+   */
+  private boolean staxModelReader;
+
+  /**
+   * Create the project model from Maven's raw model of the POM file, which Maven has already read, instead of reading
+   * the POM file again. The POM file is then only parsed for rules which need the order of its elements. Maven reads
+   * the POM file regardless of its namespace and uses default values for the type of dependencies and the group ID of
+   * plugins. Has no effect if Maven's raw model is not available.
+   *
+   * @configParam
+   * @default false
+   * @since 2.2.1
+   */
+  private boolean mavenModel;
+
   @Override
   public final void execute(EnforcerRuleHelper helper) throws EnforcerRuleException {
     MavenProject project = EnforcerRuleUtils.getMavenProject(helper);
-    Document pom = XmlUtils.parseXml(project.getFile());
-    ProjectModel model = JAXB.unmarshal(project.getFile(), ProjectModel.class);
+    MavenSession session = EnforcerRuleUtils.getMavenSession(helper);
 
-    initialize(helper, pom, model);
+    Optional<String> errors;
+    EnforcerEvents.Scope event = EnforcerEvents.ruleExecution(RuleInstrumentation.getModuleId(project), getDescription().name());
+    try {
+      errors = enforce(helper, session, project);
+    } finally {
+      event.close();
+    }
 
+    if (errors.isPresent()) {
+      throw new EnforcerRuleException(errors.get());
+    }
+  }
+
+  /**
+   * Enforces this rule on the given project.
+   *
+   * @param helper Enforcer rule helper.
+   * @param session The Maven session or <code>null</code> if not available.
+   * @param project The Maven project.
+   * @return The error report or an empty {@link Optional} if there were no errors.
+   */
+  Optional<String> enforce(EnforcerRuleHelper helper, MavenSession session, MavenProject project) {
+    if (!requiresPom()) {
+      // The POM file is not read. The document and the project model are not available since they are not declared.
+      initialize(helper, () -> null, () -> null, () -> null);
+      return enforceCached(session, project, null, this::enforce);
+    }
+
+    PomSnapshot snapshot = readPom(session, project);
+    initialize(helper, snapshot::getDocument, snapshot::getProjectModel, snapshot::openContent);
+
+    return enforceCached(session, project, snapshot, this::enforce);
+  }
+
+  /**
+   * Returns the cached result of this rule for the given project. The given enforcer is only called if neither the
+   * session cache nor the persistent cache contain a result.
+   *
+   * @param session The Maven session or <code>null</code> if not available.
+   * @param project The Maven project.
+   * @param snapshot The POM of the Maven project or <code>null</code> if this rule does not require the POM.
+   * @param enforcer Enforces this rule on the given project.
+   * @return The error report or an empty {@link Optional} if there were no errors.
+   */
+  final Optional<String> enforceCached(MavenSession session, MavenProject project, PomSnapshot snapshot, Supplier<Optional<String>> enforcer) {
+    if (session == null) {
+      return enforcer.get();
+    }
+
+    String cacheId = RuleResultCache.createCacheId(this, snapshot, project);
+    return RuleResultCache.forSession(session).get(cacheId, () -> enforcePersistentCached(project, cacheId, enforcer));
+  }
+
+  private Optional<String> enforcePersistentCached(MavenProject project, String cacheId, Supplier<Optional<String>> enforcer) {
+    if (this.resultCacheDirectory == null) {
+      return enforcer.get();
+    }
+
+    PersistentResultCache cache = PersistentResultCache.forDirectory(this.resultCacheDirectory, this.resultCacheSize);
+    String entryKey = PersistentResultCache.createEntryKey(this, project);
+    return cache.get(entryKey, PersistentResultCache.createFingerprint(cacheId, project), enforcer);
+  }
+
+  private Optional<String> enforce() {
     ErrorReport report = new ErrorReport(getDescription());
     doEnforce(report);
 
-    if (report.hasErrors()) {
-      throw new EnforcerRuleException(report.toString());
-    }
+    return report.hasErrors() ? Optional.of(report.toString()) : Optional.empty();
   }
 
   /**
@@ -68,9 +211,89 @@ public abstract class AbstractPedanticEnforcer implements EnforcerRule2 {
    * @param projectModel Project model.
    */
   void initialize(EnforcerRuleHelper helper, Document pom, ProjectModel projectModel) {
+    initialize(helper, () -> pom, () -> projectModel);
+  }
+
+  /**
+   * Initialization method with a lazily parsed POM document and project model. The document and the project model are
+   * only requested if this rule calls {@link #getPom()} or {@link #getProjectModel()}, which requires the corresponding
+   * {@link #getRequirements() requirement}.
+   *
+   * @param helper Enforcer rule helper.
+   * @param pom Supplies the POM Document.
+   * @param projectModel Supplies the project model.
+   */
+  void initialize(EnforcerRuleHelper helper, Supplier<Document> pom, Supplier<ProjectModel> projectModel) {
+    initialize(helper, pom, projectModel, () -> new ByteArrayInputStream(PomSnapshot.readContent(EnforcerRuleUtils.getMavenProject(helper).getFile())));
+  }
+
+  /**
+   * Initialization method with a lazily parsed POM document and project model and the content of the POM file, which
+   * rules can stream instead of analyzing the parsed document.
+   *
+   * @param helper Enforcer rule helper.
+   * @param pom Supplies the POM Document.
+   * @param projectModel Supplies the project model.
+   * @param pomContent Supplies a new stream over the content of the POM file for each call.
+   */
+  void initialize(EnforcerRuleHelper helper, Supplier<Document> pom, Supplier<ProjectModel> projectModel, Supplier<InputStream> pomContent) {
     this.helper = helper;
-    this.pom = pom;
-    this.projectModel = projectModel;
+    this.pom = Suppliers.memoize(() -> require(RuleRequirement.DOCUMENT, pom));
+    this.projectModel = Suppliers.memoize(() -> require(RuleRequirement.PROJECT_MODEL, projectModel));
+    this.pomContent = () -> require(RuleRequirement.DOCUMENT, pomContent);
+  }
+
+  private <T> T require(RuleRequirement requirement, Supplier<T> supplier) {
+    if (!getRequirements().contains(requirement)) {
+      throw new IllegalStateException(getClass().getSimpleName() + " does not declare the requirement " + requirement);
+    }
+
+    return supplier.get();
+  }
+
+  /**
+   * Describes what this rule needs to analyze a project. {@link #getPom()} and {@link #getProjectModel()} may only be
+   * called if this rule requires {@link RuleRequirement#DOCUMENT} or {@link RuleRequirement#PROJECT_MODEL}. The POM
+   * file is not read at all if this rule requires neither of them. The result cache only considers the resolved
+   * project's dependencies and plugins if this rule requires {@link RuleRequirement#RESOLVED_PROJECT}. The default
+   * implementation requires everything.
+   *
+   * @return The requirements of this rule.
+   */
+  protected Set<RuleRequirement> getRequirements() {
+    return EnumSet.allOf(RuleRequirement.class);
+  }
+
+  /**
+   * Whether this rule requires the POM file, i.e. its document or its project model.
+   *
+   * @return <code>true</code> if this rule requires the POM file.
+   */
+  final boolean requiresPom() {
+    Set<RuleRequirement> requirements = getRequirements();
+    return requirements.contains(RuleRequirement.DOCUMENT) || requirements.contains(RuleRequirement.PROJECT_MODEL);
+  }
+
+  PomSnapshot readPom(MavenSession session, MavenProject project) {
+    File pomFile = project.getFile();
+    Model originalModel = this.mavenModel ? project.getOriginalModel() : null;
+    PomSnapshot.ModelSource modelSource;
+    Function<byte[], PomSnapshot> reader;
+    if (originalModel != null) {
+      modelSource = PomSnapshot.ModelSource.MAVEN_MODEL;
+      reader = content -> PomSnapshot.fromMavenModel(pomFile, content, originalModel);
+    } else {
+      modelSource = this.staxModelReader ? PomSnapshot.ModelSource.STAX : PomSnapshot.ModelSource.JAXB;
+      reader = content -> PomSnapshot.read(pomFile, content, this.staxModelReader);
+    }
+
+    if (session == null) {
+      return reader.apply(PomSnapshot.readContent(pomFile));
+    }
+
+    PomSnapshotCache cache = PomSnapshotCache.forSession(session);
+    cache.setMaximumSize(this.pomCacheSize);
+    return cache.get(pomFile, modelSource, reader);
   }
 
   protected EnforcerRuleHelper getHelper() {
@@ -78,11 +301,94 @@ public abstract class AbstractPedanticEnforcer implements EnforcerRule2 {
   }
 
   protected Document getPom() {
-    return this.pom;
+    return this.pom.get();
   }
 
   protected ProjectModel getProjectModel() {
-    return this.projectModel;
+    return this.projectModel.get();
+  }
+
+  /**
+   * Opens a stream over the content of the POM file. Like {@link #getPom()}, this requires
+   * {@link RuleRequirement#DOCUMENT}.
+   *
+   * @return A new stream over the content of the POM file.
+   */
+  protected InputStream getPomContent() {
+    return this.pomContent.get();
+  }
+
+  /**
+   * Describes the effective configuration of this rule. Two instances of a rule with the same configuration
+   * fingerprint produce the same result for the same POM file and Maven project. The fingerprint consists of the
+   * {@link #describeConfiguration() rule's configuration} and the options of this class which change how the project
+   * model is created. The other options of this class, e.g. the cache settings, do not change the result.
+   *
+   * @return The configuration fingerprint.
+   */
+  final String getConfigurationFingerprint() {
+    return describeConfiguration() + ";staxModelReader=" + this.staxModelReader + ";mavenModel=" + this.mavenModel;
+  }
+
+  /**
+   * Describes the configuration of this rule. The default implementation describes all instance fields declared by the
+   * concrete rule class and its superclasses below this class. Collections and maps are described in their iteration
+   * order if this order is well-defined, e.g. for lists, linked or sorted collections. Otherwise, their elements are
+   * sorted so that the description does not change between JVMs.
+   *
+   * @return The description of the configuration.
+   */
+  String describeConfiguration() {
+    StringBuilder description = new StringBuilder(getClass().getName());
+    for (Class<?> clazz = getClass(); clazz != AbstractPedanticEnforcer.class; clazz = clazz.getSuperclass()) {
+      for (Field field : clazz.getDeclaredFields()) {
+        if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+          description.append(';').append(field.getName()).append('=').append(describe(readField(field)));
+        }
+      }
+    }
+
+    return description.toString();
+  }
+
+  static String describe(Object value) {
+    if (value instanceof Multimap) {
+      Multimap<?, ?> multimap = (Multimap<?, ?>) value;
+      boolean orderedKeys = multimap instanceof LinkedHashMultimap || multimap instanceof LinkedListMultimap
+          || multimap instanceof TreeMultimap;
+      boolean orderedValues = multimap instanceof ListMultimap || multimap instanceof LinkedHashMultimap
+          || multimap instanceof SortedSetMultimap;
+      return describe(multimap.asMap().entrySet().stream()
+          .map(entry -> describe(entry.getKey()) + "=" + describe(entry.getValue().stream(), orderedValues, "[", "]")), orderedKeys, "{", "}");
+    }
+    if (value instanceof Map) {
+      Map<?, ?> map = (Map<?, ?>) value;
+      boolean orderedKeys = map instanceof LinkedHashMap || map instanceof SortedMap || map instanceof EnumMap;
+      return describe(map.entrySet().stream()
+          .map(entry -> describe(entry.getKey()) + "=" + describe(entry.getValue())), orderedKeys, "{", "}");
+    }
+    if (value instanceof Collection) {
+      Collection<?> collection = (Collection<?>) value;
+      boolean ordered = !(collection instanceof Set) || collection instanceof LinkedHashSet
+          || collection instanceof SortedSet || collection instanceof EnumSet;
+      return describe(collection.stream(), ordered, "[", "]");
+    }
+
+    return String.valueOf(value);
+  }
+
+  private static String describe(Stream<?> elements, boolean ordered, String prefix, String suffix) {
+    Stream<String> descriptions = elements.map(AbstractPedanticEnforcer::describe);
+    return (ordered ? descriptions : descriptions.sorted()).collect(joining(", ", prefix, suffix));
+  }
+
+  private Object readField(Field field) {
+    try {
+      field.setAccessible(true);
+      return field.get(this);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("Cannot read configuration field " + field, e);
+    }
   }
 
   protected abstract PedanticEnforcerRule getDescription();
@@ -96,6 +402,11 @@ public abstract class AbstractPedanticEnforcer implements EnforcerRule2 {
     return this.warnOnly ? EnforcerLevel.WARN : EnforcerLevel.ERROR;
   }
 
+  /**
+   * The maven-enforcer-plugin requests the cache ID before the rule knows the project it is executed for. So the
+   * plugin's cache cannot distinguish the modules of a multi-module build. Instead, results are cached in
+   * {@link #execute(EnforcerRuleHelper)} using the POM content, the rule configuration and the resolved project.
+   */
   @Override
   public boolean isCacheable() {
     return false;
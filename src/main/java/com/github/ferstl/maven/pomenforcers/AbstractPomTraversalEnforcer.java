@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Base class for enforcers that analyze the POM document by registering handlers in a {@link PomTraversal}. The
+ * {@link CompoundPedanticEnforcer} registers all of these enforcers in the same traversal, so the POM document is
+ * traversed only once for all of them.
+ */
+public abstract class AbstractPomTraversalEnforcer extends AbstractPedanticEnforcer {
+
+  @Override
+  protected Set<RuleRequirement> getRequirements() {
+    return EnumSet.of(RuleRequirement.DOCUMENT);
+  }
+
+  @Override
+  protected final void doEnforce(ErrorReport report) {
+    PomTraversal traversal = new PomTraversal();
+    register(traversal, report);
+    traversal.traverse(this::getPom);
+  }
+
+  /**
+   * Registers the handlers of this enforcer in the given traversal. The handlers report errors to the given report.
+   *
+   * @param traversal The traversal.
+   * @param report The error report of this enforcer.
+   */
+  abstract void register(PomTraversal traversal, ErrorReport report);
+}
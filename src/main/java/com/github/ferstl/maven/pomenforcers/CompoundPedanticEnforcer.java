@@ -15,12 +15,33 @@
  */
 package com.github.ferstl.maven.pomenforcers;
 
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import org.apache.maven.enforcer.rule.api.EnforcerRuleHelper;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.project.MavenProject;
+import org.w3c.dom.Document;
+import com.github.ferstl.maven.pomenforcers.model.ProjectModel;
 import com.github.ferstl.maven.pomenforcers.util.CommaSeparatorUtils;
+import com.github.ferstl.maven.pomenforcers.util.EnforcerEvents;
+import com.github.ferstl.maven.pomenforcers.util.EnforcerRuleUtils;
 import com.google.common.base.Strings;
+import com.google.common.base.Suppliers;
+import com.google.common.base.Throwables;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import static java.util.stream.Collectors.toList;
 
 /**
  * The compound enforcer aggregates any combination of the available pedantic
@@ -55,6 +76,7 @@ import com.google.common.collect.Sets;
  *         &lt;dependencyElementOrdering&gt;true&lt;/dependencyElementOrdering&gt;
  *         &lt;checkDependencyElements&gt;true&lt;/checkDependencyElements&gt;
  *         &lt;checkDependencyManagementElements&gt;true&lt;/checkDependencyManagementElements&gt;
+ *         &lt;streamDependencyElements&gt;false&lt;/streamDependencyElements&gt;
  *         &lt;!-- DEPENDENCY_SCOPE configuration --&gt;
  *         &lt;compileDependencies&gt;com.example:mylib1,com.example:mylib2&lt;/compileDependencies&gt;
  *         &lt;providedDependencies&gt;javax.servlet:servlet-api&lt;/providedDependencies&gt;
@@ -79,6 +101,7 @@ import com.google.common.collect.Sets;
  *         &lt;pluginElementOrdering&gt;true&lt;/pluginElementOrdering&gt;
  *         &lt;checkPluginElements&gt;true&lt;/checkPluginElements&gt;
  *         &lt;checkPluginManagementElements&gt;true&lt;/checkPluginManagementElements&gt;
+ *         &lt;streamPluginElements&gt;false&lt;/streamPluginElements&gt;
  *         &lt;!-- PLUGIN_MANAGEMENT_LOCATION configuration --&gt;
  *         &lt;allowParentPomsForPluginManagement&gt;true&lt;/allowParentPomsForPluginManagement&gt;
  *         &lt;pluginManagingPoms&gt;com.myproject:parent-pom&lt;/pluginManagingPoms&gt;
@@ -86,6 +109,10 @@ import com.google.common.collect.Sets;
  *         &lt;dependencyElementOrdering&gt;groupId,artifactid,version&lt;/dependencyElementOrdering&gt;
  *         &lt;checkDependencyElements&gt;true&lt;/checkDependencyElements&gt;
  *         &lt;checkDependencyManagementElements&gt;true&lt;/checkDependencyManagementElements&gt;
+ *         &lt;!-- Check all modules in the first project of the reactor --&gt;
+ *         &lt;aggregate&gt;false&lt;/aggregate&gt;
+ *         &lt;!-- Log execution statistics of the enforcers --&gt;
+ *         &lt;instrumentation&gt;false&lt;/instrumentation&gt;
  *       &lt;/compound&gt;
  *     &lt;/rules&gt;
  * </pre>
@@ -421,6 +448,14 @@ public class CompoundPedanticEnforcer extends AbstractPedanticEnforcer {
    */
   private Boolean checkDependencyManagementElements;
 
+  /**
+   * See {@link PedanticDependencyElementEnforcer#setStreaming(boolean)}.
+   *
+   * @configParam
+   * @since 2.2.1
+   */
+  private Boolean streamDependencyElements;
+
 
   /**
    * See {@link PedanticPluginElementEnforcer#setElementPriorities(String)}.
@@ -447,6 +482,53 @@ public class CompoundPedanticEnforcer extends AbstractPedanticEnforcer {
    */
   private Boolean checkPluginManagementElements;
 
+  /**
+   * See {@link PedanticPluginElementEnforcer#setStreaming(boolean)}.
+   *
+   * @configParam
+   * @since 2.2.1
+   */
+  private Boolean streamPluginElements;
+
+  /**
+   * If set to <code>true</code>, the configured enforcers are executed in parallel. The number of threads is limited
+   * to the number of available processors. The reported errors are in the same order as in sequential execution. This
+   * parameter is ignored if <code>aggregate</code> is set, which analyzes the projects in parallel instead, or if
+   * <code>instrumentation</code> is set, which measures each enforcer on its own.
+   *
+   * @configParam
+   * @default false
+   * @since 2.2.1
+   */
+  private boolean parallel;
+
+  /**
+   * If set to <code>true</code>, the enforcers are executed for all projects of the Maven reactor in the first project
+   * of the reactor and the errors of all projects are reported at once. The executions in the other projects are
+   * skipped. The projects are analyzed in parallel. If only a subset of the projects is built, e.g. with
+   * <code>-pl</code> or <code>-rf</code>, only the projects of this subset are analyzed.
+   *
+   * @configParam
+   * @default false
+   * @since 2.2.1
+   */
+  private boolean aggregate;
+
+  /**
+   * If set to <code>true</code>, the wall time, CPU time, allocated bytes, traversed POM elements and artifact
+   * comparisons of each enforcer are recorded per module and a summary is logged at the end of the reactor. The
+   * enforcers do not share the traversal of the POM document in this mode, so that the costs can be attributed to the
+   * single enforcers. Enforcers that only work on the project model do not traverse the POM document and report no
+   * traversed elements. Results from the result cache are not measured. The summary is logged by the execution in the
+   * last module of the reactor. Measurements of later executions, e.g. of a second enforcer plugin execution in the
+   * last module, are logged in an additional summary.
+   *
+   * @configParam
+   * @default false
+   * @since 2.2.1
+   */
+  private boolean instrumentation;
+
   /**
    * Collection of enforcers to execute.
    */
@@ -454,6 +536,11 @@ public class CompoundPedanticEnforcer extends AbstractPedanticEnforcer {
 
   private final PropertyInitializationVisitor propertyInitializer;
 
+  /**
+   * The configured rules of the current execution.
+   */
+  private List<AbstractPedanticEnforcer> rules;
+
   public CompoundPedanticEnforcer() {
     this.enforcers = Sets.newLinkedHashSet();
     this.propertyInitializer = new PropertyInitializationVisitor();
@@ -463,6 +550,18 @@ public class CompoundPedanticEnforcer extends AbstractPedanticEnforcer {
     CommaSeparatorUtils.splitAndAddToCollection(enforcers, this.enforcers, PedanticEnforcerRule::valueOf);
   }
 
+  public void setParallel(boolean parallel) {
+    this.parallel = parallel;
+  }
+
+  public void setAggregate(boolean aggregate) {
+    this.aggregate = aggregate;
+  }
+
+  public void setInstrumentation(boolean instrumentation) {
+    this.instrumentation = instrumentation;
+  }
+
   @Override
   protected PedanticEnforcerRule getDescription() {
     return PedanticEnforcerRule.COMPOUND;
@@ -473,30 +572,292 @@ public class CompoundPedanticEnforcer extends AbstractPedanticEnforcer {
     visitor.visit(this);
   }
 
+  @Override
+  Optional<String> enforce(EnforcerRuleHelper helper, MavenSession session, MavenProject project) {
+    this.rules = createRules();
+    if (!this.aggregate || session == null) {
+      if (this.parallel && this.instrumentation) {
+        helper.getLog().warn("Parallel execution is ignored in instrumentation mode.");
+      }
+      Optional<String> errors = super.enforce(helper, session, project);
+      if (this.instrumentation) {
+        RuleInstrumentation.forSession(session).moduleFinished(session, project, helper.getLog());
+      }
+      return errors;
+    }
+
+    // The execution root is not part of the reactor when building a subset of the projects, e.g. with -pl or -rf
+    List<MavenProject> projects = session.getProjects();
+    if (projects.isEmpty() || projects.get(0) != project) {
+      helper.getLog().debug("Skipping " + project.getId() + ". Aggregated enforcement is done in the first project of the reactor.");
+      return Optional.empty();
+    }
+
+    if (this.parallel) {
+      helper.getLog().warn("Parallel execution of the enforcers is ignored in aggregate mode. The projects are analyzed in parallel instead.");
+    }
+    Optional<String> errors = enforceAggregate(helper, session);
+    if (this.instrumentation) {
+      RuleInstrumentation.forSession(session).logSummary(helper.getLog());
+    }
+    return errors;
+  }
+
   @Override
   protected void doEnforce(ErrorReport report) {
-    report.useLargeTitle();
+    EnforcerRuleHelper helper = getHelper();
+    List<ErrorReport> ruleReports;
+    List<AbstractPedanticEnforcer> rules = getRules();
+    if (this.instrumentation) {
+      ruleReports = enforceInstrumented(helper, EnforcerRuleUtils.getMavenSession(helper), rules, this::getPom, this::getProjectModel, this::getPomContent);
+    } else if (this.parallel && rules.size() > 1) {
+      ruleReports = enforceInParallel(helper, rules, this::getPom, this::getProjectModel, this::getPomContent);
+    } else {
+      ruleReports = enforceSequentially(helper, rules, this::getPom, this::getProjectModel, this::getPomContent);
+    }
 
-    List<ErrorReport> ruleErrors = new ArrayList<>();
+    collectErrors(report, ruleReports);
+  }
+
+  /**
+   * Enforcers that analyze the POM document with a {@link PomTraversal} share a single traversal. The other enforcers
+   * are executed directly.
+   */
+  private static List<ErrorReport> enforceSequentially(EnforcerRuleHelper helper, List<AbstractPedanticEnforcer> rules, Supplier<Document> pom, Supplier<ProjectModel> projectModel, Supplier<InputStream> pomContent) {
+    PomTraversal traversal = new PomTraversal();
+    List<ErrorReport> ruleReports = new ArrayList<>();
+    for (AbstractPedanticEnforcer rule : rules) {
+      rule.initialize(helper, pom, projectModel, pomContent);
+      ErrorReport ruleReport = new ErrorReport(rule.getDescription());
+
+      if (rule instanceof AbstractPomTraversalEnforcer) {
+        ((AbstractPomTraversalEnforcer) rule).register(traversal, ruleReport);
+      } else {
+        rule.doEnforce(ruleReport);
+      }
+      ruleReports.add(ruleReport);
+    }
+
+    traversal.traverse(pom);
+    return ruleReports;
+  }
+
+  /**
+   * DOM implementations are not thread-safe, not even for read-only access. So each rule gets its own copy of the POM
+   * document. The copies are created on demand, one at a time. The project model may be unmarshalled from the POM
+   * document, so it is created under the same lock. The rules are executed in a dedicated thread pool which is shut
+   * down when all rules are finished.
+   */
+  private static List<ErrorReport> enforceInParallel(EnforcerRuleHelper helper, List<AbstractPedanticEnforcer> rules, Supplier<Document> pom, Supplier<ProjectModel> projectModel, Supplier<InputStream> pomContent) {
+    String module = EnforcerEvents.getCurrentModule();
+    Object cloneLock = new Object();
+    Supplier<ProjectModel> sharedProjectModel = Suppliers.memoize(() -> {
+      synchronized (cloneLock) {
+        return projectModel.get();
+      }
+    });
+    ExecutorService executor = Executors.newFixedThreadPool(
+        Math.min(rules.size(), Runtime.getRuntime().availableProcessors()),
+        new ThreadFactoryBuilder().setNameFormat("pedantic-enforcer-%d").setDaemon(true).build());
+
+    List<ErrorReport> ruleReports = new ArrayList<>();
+    try {
+      List<Future<ErrorReport>> futures = new ArrayList<>();
+      for (AbstractPedanticEnforcer rule : rules) {
+        Supplier<Document> pomCopy = Suppliers.memoize(() -> {
+          synchronized (cloneLock) {
+            return (Document) pom.get().cloneNode(true);
+          }
+        });
+        futures.add(executor.submit(() -> {
+          EnforcerEvents.Scope event = EnforcerEvents.ruleExecution(module, rule.getDescription().name());
+          try {
+            return enforce(rule, helper, pomCopy, sharedProjectModel, pomContent);
+          } finally {
+            event.close();
+          }
+        }));
+      }
+
+      for (Future<ErrorReport> future : futures) {
+        ruleReports.add(getResult(future));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    return ruleReports;
+  }
+
+  /**
+   * Each enforcer is executed separately, so that its costs can be measured.
+   */
+  private static List<ErrorReport> enforceInstrumented(EnforcerRuleHelper helper, MavenSession session, List<AbstractPedanticEnforcer> rules, Supplier<Document> pom, Supplier<ProjectModel> projectModel, Supplier<InputStream> pomContent) {
+    RuleInstrumentation instrumentation = RuleInstrumentation.forSession(session);
+    String module = RuleInstrumentation.getModuleId(EnforcerRuleUtils.getMavenProject(helper));
+
+    List<ErrorReport> ruleReports = new ArrayList<>();
+    for (AbstractPedanticEnforcer rule : rules) {
+      rule.initialize(helper, pom, projectModel, pomContent);
+      ErrorReport ruleReport = new ErrorReport(rule.getDescription());
+
+      instrumentation.measure(module, rule.getDescription(), () -> rule.doEnforce(ruleReport));
+      ruleReports.add(ruleReport);
+    }
+
+    return ruleReports;
+  }
+
+  private static ErrorReport enforce(AbstractPedanticEnforcer rule, EnforcerRuleHelper helper, Supplier<Document> pom, Supplier<ProjectModel> projectModel, Supplier<InputStream> pomContent) {
+    rule.initialize(helper, pom, projectModel, pomContent);
+
+    ErrorReport ruleReport = new ErrorReport(rule.getDescription());
+    rule.doEnforce(ruleReport);
+
+    return ruleReport;
+  }
+
+  /**
+   * Enforces the configured rules on all projects of the reactor. Each project is analyzed in a task of a dedicated
+   * fork-join pool and uses the same caches as a non-aggregated execution. The errors are reported in reactor order.
+   */
+  private Optional<String> enforceAggregate(EnforcerRuleHelper helper, MavenSession session) {
+    List<MavenProject> projects = session.getProjects();
+    ForkJoinPool pool = new ForkJoinPool(Math.max(1, Math.min(projects.size(), Runtime.getRuntime().availableProcessors())));
+
+    List<Optional<String>> results;
+    try {
+      results = pool.submit(() -> projects.parallelStream()
+          .map(project -> enforceProject(helper, session, project))
+          .collect(toList())).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for enforcer rules", e);
+    } catch (ExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new IllegalStateException(e.getCause());
+    } finally {
+      pool.shutdownNow();
+    }
+
+    ErrorReport report = new ErrorReport(getDescription()).useLargeTitle();
+    for (int i = 0; i < projects.size(); i++) {
+      Optional<String> projectErrors = results.get(i);
+      if (projectErrors.isPresent()) {
+        MavenProject project = projects.get(i);
+        report.addLine("Module " + project.getGroupId() + ":" + project.getArtifactId() + " (" + project.getFile() + ")")
+            .emptyLine()
+            .addLine(projectErrors.get())
+            .emptyLine();
+      }
+    }
+
+    return report.hasErrors() ? Optional.of(report.toString()) : Optional.empty();
+  }
+
+  private Optional<String> enforceProject(EnforcerRuleHelper helper, MavenSession session, MavenProject project) {
+    EnforcerEvents.Scope event = EnforcerEvents.ruleExecution(RuleInstrumentation.getModuleId(project), getDescription().name());
+    try {
+      return enforceModule(helper, session, project);
+    } finally {
+      event.close();
+    }
+  }
+
+  private Optional<String> enforceModule(EnforcerRuleHelper helper, MavenSession session, MavenProject project) {
+    EnforcerRuleHelper projectHelper = new ProjectEnforcerRuleHelper(helper, session, project);
+    PomSnapshot snapshot = requiresPom() ? readPom(session, project) : null;
+    Supplier<Document> pom = snapshot != null ? snapshot::getDocument : () -> null;
+    Supplier<ProjectModel> projectModel = snapshot != null ? snapshot::getProjectModel : () -> null;
+    Supplier<InputStream> pomContent = snapshot != null ? snapshot::openContent : () -> null;
+
+    return enforceCached(session, project, snapshot, () -> {
+      // The projects are analyzed concurrently and the rules keep the state of the analyzed project
+      List<AbstractPedanticEnforcer> projectRules = createRules();
+      ErrorReport report = new ErrorReport(getDescription());
+      List<ErrorReport> ruleReports = this.instrumentation
+          ? enforceInstrumented(projectHelper, session, projectRules, pom, projectModel, pomContent)
+          : enforceSequentially(projectHelper, projectRules, pom, projectModel, pomContent);
+      collectErrors(report, ruleReports);
+
+      return report.hasErrors() ? Optional.of(report.toString()) : Optional.empty();
+    });
+  }
+
+  private static ErrorReport getResult(Future<ErrorReport> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for enforcer rules", e);
+    } catch (ExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /**
+   * The compound enforcer requires everything that one of the configured rules requires.
+   */
+  @Override
+  protected Set<RuleRequirement> getRequirements() {
+    Set<RuleRequirement> requirements = EnumSet.noneOf(RuleRequirement.class);
+    for (AbstractPedanticEnforcer rule : getRules()) {
+      requirements.addAll(rule.getRequirements());
+    }
+
+    return requirements;
+  }
+
+  /**
+   * The configuration of the compound enforcer consists of the fingerprints of the configured rules after they received
+   * their configuration from this enforcer.
+   */
+  @Override
+  String describeConfiguration() {
+    StringBuilder description = new StringBuilder(getClass().getName());
+    for (AbstractPedanticEnforcer rule : getRules()) {
+      description.append('|').append(rule.getConfigurationFingerprint());
+    }
+
+    return description.toString();
+  }
+
+  /**
+   * Returns the configured rules of the current execution. They are created once per execution, so that the
+   * requirements, the configuration and the enforcement of the rules do not create them again.
+   */
+  private List<AbstractPedanticEnforcer> getRules() {
+    if (this.rules == null) {
+      this.rules = createRules();
+    }
+
+    return this.rules;
+  }
+
+  private List<AbstractPedanticEnforcer> createRules() {
+    List<AbstractPedanticEnforcer> rules = new ArrayList<>(this.enforcers.size());
     for (PedanticEnforcerRule pedanticEnforcer : this.enforcers) {
       AbstractPedanticEnforcer rule = pedanticEnforcer.createEnforcerRule();
-      rule.initialize(getHelper(), getPom(), getProjectModel());
       rule.accept(this.propertyInitializer);
+      rules.add(rule);
+    }
 
-      ErrorReport ruleReport = new ErrorReport(rule.getDescription());
-      rule.doEnforce(ruleReport);
+    return rules;
+  }
 
+  private void collectErrors(ErrorReport compoundReport, List<ErrorReport> ruleReports) {
+    compoundReport.useLargeTitle();
+
+    List<ErrorReport> ruleErrors = new ArrayList<>();
+    for (ErrorReport ruleReport : ruleReports) {
       if (ruleReport.hasErrors()) {
         ruleErrors.add(ruleReport);
       }
     }
-    collectErrors(report, ruleErrors);
-  }
 
-  private void collectErrors(ErrorReport compoundReport, List<ErrorReport> ruleErrors) {
     if (!ruleErrors.isEmpty()) {
       compoundReport
-          .useLargeTitle()
           .addLine("Please fix these problems:")
           .emptyLine();
       for (ErrorReport ruleError : ruleErrors) {
@@ -672,6 +1033,9 @@ public class CompoundPedanticEnforcer extends AbstractPedanticEnforcer {
       if (CompoundPedanticEnforcer.this.checkDependencyManagementElements != null) {
         enforcer.setCheckDependencyManagement(CompoundPedanticEnforcer.this.checkDependencyManagementElements);
       }
+      if (CompoundPedanticEnforcer.this.streamDependencyElements != null) {
+        enforcer.setStreaming(CompoundPedanticEnforcer.this.streamDependencyElements);
+      }
     }
 
     @Override
@@ -685,6 +1049,9 @@ public class CompoundPedanticEnforcer extends AbstractPedanticEnforcer {
       if (CompoundPedanticEnforcer.this.checkPluginManagementElements != null) {
         pedanticPluginElementEnforcer.setCheckPluginManagement(CompoundPedanticEnforcer.this.checkPluginManagementElements);
       }
+      if (CompoundPedanticEnforcer.this.streamPluginElements != null) {
+        pedanticPluginElementEnforcer.setStreaming(CompoundPedanticEnforcer.this.streamPluginElements);
+      }
     }
 
     @Override
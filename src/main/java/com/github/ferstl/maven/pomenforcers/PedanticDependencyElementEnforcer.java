@@ -27,7 +27,7 @@ import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 import com.github.ferstl.maven.pomenforcers.priority.PriorityOrdering;
-import com.github.ferstl.maven.pomenforcers.util.XmlUtils;
+import com.github.ferstl.maven.pomenforcers.util.EnforcerRuleUtils;
 import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.DEPENDENCY_ELEMENT;
 import static com.github.ferstl.maven.pomenforcers.util.CommaSeparatorUtils.splitAndAddToCollection;
 import static com.google.common.collect.Sets.newLinkedHashSet;
@@ -45,6 +45,8 @@ import static java.util.Arrays.asList;
  *         &lt;checkDependencyManagement&gt;true&lt;/checkDependencyManagement&gt;
  *         &lt;!-- Check the dependencies section --&gt;
  *         &lt;checkDependencies&gt;true&lt;/checkDependencies&gt;
+ *         &lt;!-- Stream the POM file instead of querying the parsed POM --&gt;
+ *         &lt;streaming&gt;false&lt;/streaming&gt;
  *       &lt;/dependencyElements&gt;
  *     &lt;/rules&gt;
  * </pre>
@@ -52,13 +54,16 @@ import static java.util.Arrays.asList;
  * @id {@link PedanticEnforcerRule#DEPENDENCY_ELEMENT}
  * @since 2.0.0
  */
-public class PedanticDependencyElementEnforcer extends AbstractPedanticEnforcer {
+public class PedanticDependencyElementEnforcer extends AbstractPomTraversalEnforcer {
 
   private static final Set<String> DEFAULT_ORDER = newLinkedHashSet(asList("groupId", "artifactId", "version", "classifier", "type", "scope", "systemPath", "optional", "exclusions"));
+  private static final String DEPENDENCY_MANAGEMENT_PATH = "/project/dependencyManagement/dependencies/dependency";
+  private static final String DEPENDENCIES_PATH = "/project/dependencies/dependency";
 
   private PriorityOrdering<String, String> elementOrdering;
   private boolean checkDependencies;
   private boolean checkDependencyManagement;
+  private boolean streaming;
 
   public PedanticDependencyElementEnforcer() {
     this.elementOrdering = new PriorityOrdering<>(DEFAULT_ORDER, Function.identity());
@@ -108,37 +113,71 @@ public class PedanticDependencyElementEnforcer extends AbstractPedanticEnforcer
     this.checkDependencyManagement = checkDependencyManagement;
   }
 
+  /**
+   * Check the element order by streaming the POM file with a StAX reader instead of querying the parsed POM. Only the
+   * element names are kept in memory while checking and the element contents are only read for elements in the wrong
+   * order. This keeps the memory usage low for POMs with large dependency declarations.
+   *
+   * @param streaming <code>true</code> to stream the POM file, <code>false</code> else.
+   * @configParam
+   * @default false
+   * @since 2.2.1
+   */
+  public void setStreaming(boolean streaming) {
+    this.streaming = streaming;
+  }
+
   @Override
   protected PedanticEnforcerRule getDescription() {
     return DEPENDENCY_ELEMENT;
   }
 
   @Override
-  protected void doEnforce(ErrorReport report) {
+  void register(PomTraversal traversal, ErrorReport report) {
+    if (this.streaming) {
+      traversal.onComplete(() -> analyzeStreaming(report));
+      return;
+    }
+
     if (this.checkDependencyManagement) {
-      analyzeNodes("dependencyManagement", "/project/dependencyManagement/dependencies/dependency", report);
+      register(traversal, "dependencyManagement", DEPENDENCY_MANAGEMENT_PATH, report);
     }
 
     if (this.checkDependencies) {
-      analyzeNodes("dependencies", "/project/dependencies/dependency", report);
+      register(traversal, "dependencies", DEPENDENCIES_PATH, report);
     }
   }
 
-  private void analyzeNodes(String context, String rootPath, ErrorReport errorReport) {
-    NodeList nodes = XmlUtils.evaluateXPathAsNodeList(rootPath, getPom());
+  private void analyzeStreaming(ErrorReport report) {
+    List<String> contexts = new ArrayList<>();
+    List<String> paths = new ArrayList<>();
+    if (this.checkDependencyManagement) {
+      contexts.add("dependencyManagement");
+      paths.add(DEPENDENCY_MANAGEMENT_PATH);
+    }
 
-    List<Map<String, String>> unorderedNodes = new ArrayList<>();
-    for (int i = 0; i < nodes.getLength(); i++) {
-      Node node = nodes.item(i);
-      NodeList nodeElements = node.getChildNodes();
+    if (this.checkDependencies) {
+      contexts.add("dependencies");
+      paths.add(DEPENDENCIES_PATH);
+    }
 
-      Map<String, String> elementMap = createElementMap(nodeElements);
+    String systemId = EnforcerRuleUtils.getMavenProject(getHelper()).getFile().toURI().toString();
+    List<List<Map<String, String>>> unorderedElements = new StreamingElementOrderAnalyzer(this.elementOrdering, paths).analyze(this::getPomContent, systemId);
+    for (int i = 0; i < contexts.size(); i++) {
+      report(contexts.get(i), report, unorderedElements.get(i));
+    }
+  }
+
+  private void register(PomTraversal traversal, String context, String path, ErrorReport errorReport) {
+    List<Map<String, String>> unorderedNodes = new ArrayList<>();
+    traversal.register(path, node -> {
+      Map<String, String> elementMap = createElementMap(node.getChildNodes());
       if (!isOrdered(elementMap.keySet())) {
         unorderedNodes.add(elementMap);
       }
-    }
+    });
 
-    report(context, errorReport, unorderedNodes);
+    traversal.onComplete(() -> report(context, errorReport, unorderedNodes));
   }
 
   private Map<String, String> createElementMap(NodeList elements) {
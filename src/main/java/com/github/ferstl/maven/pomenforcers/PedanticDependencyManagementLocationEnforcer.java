@@ -16,6 +16,7 @@
 package com.github.ferstl.maven.pomenforcers;
 
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import org.apache.maven.project.MavenProject;
@@ -85,6 +86,11 @@ public class PedanticDependencyManagementLocationEnforcer extends AbstractPedant
     visitor.visit(this);
   }
 
+  @Override
+  protected Set<RuleRequirement> getRequirements() {
+    return EnumSet.of(RuleRequirement.PROJECT_MODEL, RuleRequirement.RESOLVED_PROJECT);
+  }
+
   @Override
   protected void doEnforce(ErrorReport report) {
     MavenProject mavenProject = EnforcerRuleUtils.getMavenProject(getHelper());
@@ -16,10 +16,12 @@
 package com.github.ferstl.maven.pomenforcers;
 
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.Map.Entry;
 import java.util.Set;
 import org.apache.maven.model.Dependency;
 import com.github.ferstl.maven.pomenforcers.model.ArtifactModel;
+import com.github.ferstl.maven.pomenforcers.model.CompiledArtifactPattern;
 import com.github.ferstl.maven.pomenforcers.model.DependencyScope;
 import com.github.ferstl.maven.pomenforcers.model.functions.StringToArtifactTransformer;
 import com.github.ferstl.maven.pomenforcers.util.CommaSeparatorUtils;
@@ -34,7 +36,6 @@ import static com.github.ferstl.maven.pomenforcers.model.DependencyScope.PROVIDE
 import static com.github.ferstl.maven.pomenforcers.model.DependencyScope.RUNTIME;
 import static com.github.ferstl.maven.pomenforcers.model.DependencyScope.SYSTEM;
 import static com.github.ferstl.maven.pomenforcers.model.DependencyScope.TEST;
-import static java.util.stream.Collectors.toSet;
 
 
 /**
@@ -61,7 +62,10 @@ import static java.util.stream.Collectors.toSet;
  */
 public class PedanticDependencyScopeEnforcer extends AbstractPedanticEnforcer {
 
-  private final Multimap<DependencyScope, ArtifactModel> scopedDependencies;
+  /**
+   * The configured patterns are compiled once when they are set and reused for all executions of this rule.
+   */
+  private final Multimap<DependencyScope, CompiledArtifactPattern> scopedDependencies;
 
   public PedanticDependencyScopeEnforcer() {
     this.scopedDependencies = HashMultimap.create();
@@ -143,20 +147,27 @@ public class PedanticDependencyScopeEnforcer extends AbstractPedanticEnforcer {
     visitor.visit(this);
   }
 
+  @Override
+  protected Set<RuleRequirement> getRequirements() {
+    return EnumSet.of(RuleRequirement.RESOLVED_PROJECT);
+  }
+
   @Override
   protected void doEnforce(ErrorReport report) {
-    Collection<Dependency> dependencies = EnforcerRuleUtils.getMavenProject(getHelper()).getDependencies();
+    if (this.scopedDependencies.isEmpty()) {
+      return;
+    }
 
+    Collection<Dependency> dependencies = EnforcerRuleUtils.getMavenProject(getHelper()).getDependencies();
     for (Dependency dependency : dependencies) {
-      ArtifactModel artifactModel = new ArtifactModel(dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion());
-      DependencyScope dependencyScope = getScope(dependency);
-
-      Set<DependencyScope> allowedScopes = this.scopedDependencies.entries().stream()
-          .filter(entry -> artifactModel.matches(entry.getValue()))
-          .map(Entry::getKey)
-          .collect(toSet());
+      Set<DependencyScope> allowedScopes = EnumSet.noneOf(DependencyScope.class);
+      for (Entry<DependencyScope, CompiledArtifactPattern> pattern : this.scopedDependencies.entries()) {
+        if (pattern.getValue().matches(dependency.getGroupId(), dependency.getArtifactId())) {
+          allowedScopes.add(pattern.getKey());
+        }
+      }
 
-      if (!allowedScopes.isEmpty() && !allowedScopes.contains(dependencyScope)) {
+      if (!allowedScopes.isEmpty() && !allowedScopes.contains(getScope(dependency))) {
         report.formatLine("Allowed Scopes for %s: %s", dependency, Joiner.on(", ").join(allowedScopes));
       }
     }
@@ -171,7 +182,7 @@ public class PedanticDependencyScopeEnforcer extends AbstractPedanticEnforcer {
 
   private void addToArtifactMap(Iterable<ArtifactModel> artifactModels, DependencyScope scope) {
     for (ArtifactModel artifactModel : artifactModels) {
-      this.scopedDependencies.put(scope, artifactModel);
+      this.scopedDependencies.put(scope, CompiledArtifactPattern.compile(artifactModel));
     }
   }
 
@@ -17,6 +17,7 @@ package com.github.ferstl.maven.pomenforcers;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
 import org.apache.maven.project.MavenProject;
@@ -77,6 +78,11 @@ public class PedanticModuleOrderEnforcer extends AbstractPedanticEnforcer {
     visitor.visit(this);
   }
 
+  @Override
+  protected Set<RuleRequirement> getRequirements() {
+    return EnumSet.of(RuleRequirement.PROJECT_MODEL, RuleRequirement.RESOLVED_PROJECT);
+  }
+
   @Override
   protected void doEnforce(ErrorReport report) {
     MavenProject project = EnforcerRuleUtils.getMavenProject(getHelper());
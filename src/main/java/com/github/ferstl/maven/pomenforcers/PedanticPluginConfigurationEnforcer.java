@@ -16,6 +16,7 @@
 package com.github.ferstl.maven.pomenforcers;
 
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -160,6 +161,11 @@ public class PedanticPluginConfigurationEnforcer extends AbstractPedanticEnforce
     visitor.visit(this);
   }
 
+  @Override
+  protected Set<RuleRequirement> getRequirements() {
+    return EnumSet.of(RuleRequirement.PROJECT_MODEL);
+  }
+
   @Override
   protected void doEnforce(ErrorReport report) {
     if (this.manageVersions) {
@@ -27,7 +27,7 @@ import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 import com.github.ferstl.maven.pomenforcers.priority.PriorityOrdering;
-import com.github.ferstl.maven.pomenforcers.util.XmlUtils;
+import com.github.ferstl.maven.pomenforcers.util.EnforcerRuleUtils;
 import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.PLUGIN_ELEMENT;
 import static com.github.ferstl.maven.pomenforcers.util.CommaSeparatorUtils.splitAndAddToCollection;
 import static com.google.common.collect.Sets.newLinkedHashSet;
@@ -45,6 +45,8 @@ import static java.util.Arrays.asList;
  *         &lt;checkPluginManagement&gt;true&lt;/checkPluginManagement&gt;
  *         &lt;!-- Check the plugins section --&gt;
  *         &lt;checkPlugins&gt;true&lt;/checkPlugins&gt;
+ *         &lt;!-- Stream the POM file instead of querying the parsed POM --&gt;
+ *         &lt;streaming&gt;false&lt;/streaming&gt;
  *       &lt;/pluginElements&gt;
  *     &lt;/rules&gt;
  * </pre>
@@ -52,13 +54,16 @@ import static java.util.Arrays.asList;
  * @id {@link PedanticEnforcerRule#PLUGIN_ELEMENT}
  * @since 2.0.0
  */
-public class PedanticPluginElementEnforcer extends AbstractPedanticEnforcer {
+public class PedanticPluginElementEnforcer extends AbstractPomTraversalEnforcer {
 
   private static final Set<String> DEFAULT_ORDER = newLinkedHashSet(asList("groupId", "artifactId", "version", "extensions", "inherited", "configuration", "dependencies", "executions"));
+  private static final String PLUGIN_MANAGEMENT_PATH = "/project/build/pluginManagement/plugins/plugins";
+  private static final String PLUGINS_PATH = "/project/build/plugins/plugin";
 
   private PriorityOrdering<String, String> elementOrdering;
   private boolean checkPlugins;
   private boolean checkPluginManagement;
+  private boolean streaming;
 
   public PedanticPluginElementEnforcer() {
     this.elementOrdering = new PriorityOrdering<>(DEFAULT_ORDER, Function.identity());
@@ -108,37 +113,71 @@ public class PedanticPluginElementEnforcer extends AbstractPedanticEnforcer {
     this.checkPluginManagement = checkPluginManagement;
   }
 
+  /**
+   * Check the element order by streaming the POM file with a StAX reader instead of querying the parsed POM. Only the
+   * element names are kept in memory while checking and the element contents are only read for elements in the wrong
+   * order. This keeps the memory usage low for POMs with large plugin configurations.
+   *
+   * @param streaming <code>true</code> to stream the POM file, <code>false</code> else.
+   * @configParam
+   * @default false
+   * @since 2.2.1
+   */
+  public void setStreaming(boolean streaming) {
+    this.streaming = streaming;
+  }
+
   @Override
   protected PedanticEnforcerRule getDescription() {
     return PLUGIN_ELEMENT;
   }
 
   @Override
-  protected void doEnforce(ErrorReport report) {
+  void register(PomTraversal traversal, ErrorReport report) {
+    if (this.streaming) {
+      traversal.onComplete(() -> analyzeStreaming(report));
+      return;
+    }
+
     if (this.checkPluginManagement) {
-      analyzeNodes("pluginManagement", "/project/build/pluginManagement/plugins/plugins", report);
+      register(traversal, "pluginManagement", PLUGIN_MANAGEMENT_PATH, report);
     }
 
     if (this.checkPlugins) {
-      analyzeNodes("plugins", "/project/build/plugins/plugin", report);
+      register(traversal, "plugins", PLUGINS_PATH, report);
     }
   }
 
-  private void analyzeNodes(String context, String rootPath, ErrorReport errorReport) {
-    NodeList nodes = XmlUtils.evaluateXPathAsNodeList(rootPath, getPom());
+  private void analyzeStreaming(ErrorReport report) {
+    List<String> contexts = new ArrayList<>();
+    List<String> paths = new ArrayList<>();
+    if (this.checkPluginManagement) {
+      contexts.add("pluginManagement");
+      paths.add(PLUGIN_MANAGEMENT_PATH);
+    }
 
-    List<Map<String, String>> unorderedNodes = new ArrayList<>();
-    for (int i = 0; i < nodes.getLength(); i++) {
-      Node node = nodes.item(i);
-      NodeList nodeElements = node.getChildNodes();
+    if (this.checkPlugins) {
+      contexts.add("plugins");
+      paths.add(PLUGINS_PATH);
+    }
 
-      Map<String, String> elementMap = createElementMap(nodeElements);
+    String systemId = EnforcerRuleUtils.getMavenProject(getHelper()).getFile().toURI().toString();
+    List<List<Map<String, String>>> unorderedElements = new StreamingElementOrderAnalyzer(this.elementOrdering, paths).analyze(this::getPomContent, systemId);
+    for (int i = 0; i < contexts.size(); i++) {
+      report(contexts.get(i), report, unorderedElements.get(i));
+    }
+  }
+
+  private void register(PomTraversal traversal, String context, String path, ErrorReport errorReport) {
+    List<Map<String, String>> unorderedNodes = new ArrayList<>();
+    traversal.register(path, node -> {
+      Map<String, String> elementMap = createElementMap(node.getChildNodes());
       if (!isOrdered(elementMap.keySet())) {
         unorderedNodes.add(elementMap);
       }
-    }
+    });
 
-    report(context, errorReport, unorderedNodes);
+    traversal.onComplete(() -> report(context, errorReport, unorderedNodes));
   }
 
   private Map<String, String> createElementMap(NodeList elements) {
@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import com.github.ferstl.maven.pomenforcers.util.CommaSeparatorUtils;
+import com.google.common.base.Joiner;
+import com.google.common.base.Strings;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Checks POM files without running a Maven build. The POM files are read as they are, i.e. without inheritance,
+ * interpolation or dependency management. Therefore, only the rules which work on the raw POM file are supported:
+ * <ul>
+ * <li>{@link PedanticEnforcerRule#POM_SECTION_ORDER}</li>
+ * <li>{@link PedanticEnforcerRule#MODULE_ORDER}</li>
+ * <li>{@link PedanticEnforcerRule#DEPENDENCY_CONFIGURATION}</li>
+ * <li>{@link PedanticEnforcerRule#DEPENDENCY_ELEMENT}</li>
+ * <li>{@link PedanticEnforcerRule#DEPENDENCY_SCOPE}</li>
+ * <li>{@link PedanticEnforcerRule#PLUGIN_CONFIGURATION}</li>
+ * <li>{@link PedanticEnforcerRule#PLUGIN_ELEMENT}</li>
+ * </ul>
+ * The rules are configured with the same parameters as the {@link CompoundPedanticEnforcer}. The POM files are
+ * checked in parallel.
+ * <pre>
+ * ### Usage
+ *     java -cp ... com.github.ferstl.maven.pomenforcers.PedanticPomChecker [--enforcers=POM_SECTION_ORDER,...] [--moduleOrderIgnores=...] &lt;directory or POM file&gt;...
+ * </pre>
+ * The exit code is <code>1</code> if any POM file violates a rule or cannot be checked and <code>2</code> for invalid
+ * arguments.
+ */
+public final class PedanticPomChecker {
+
+  static final Set<PedanticEnforcerRule> SUPPORTED_RULES = EnumSet.of(
+      PedanticEnforcerRule.POM_SECTION_ORDER,
+      PedanticEnforcerRule.MODULE_ORDER,
+      PedanticEnforcerRule.DEPENDENCY_CONFIGURATION,
+      PedanticEnforcerRule.DEPENDENCY_ELEMENT,
+      PedanticEnforcerRule.DEPENDENCY_SCOPE,
+      PedanticEnforcerRule.PLUGIN_CONFIGURATION,
+      PedanticEnforcerRule.PLUGIN_ELEMENT);
+
+  private static final String POM_FILE_NAME = "pom.xml";
+  private static final String ENFORCERS = "enforcers";
+  private static final String STAX_MODEL_READER = "staxModelReader";
+  private static final String OPTION_PREFIX = "--";
+
+  private final String enforcers;
+  private final boolean staxModelReader;
+  private final Map<Field, Object> configuration;
+  private final ThreadLocal<CompoundPedanticEnforcer> compound;
+
+  /**
+   * Creates a checker for all supported rules in their default configuration.
+   */
+  public PedanticPomChecker() {
+    this(Collections.emptyMap());
+  }
+
+  /**
+   * Creates a checker with the given configuration. The configuration uses the names of the parameters of the
+   * {@link CompoundPedanticEnforcer}. If the <code>enforcers</code> parameter is not configured, all supported rules
+   * are checked. The <code>staxModelReader</code> parameter selects how the POM files are read, see
+   * {@link PomSnapshot#read(java.io.File, boolean)}.
+   *
+   * @param configuration Parameter names and their values.
+   * @throws IllegalArgumentException if a parameter does not exist or if one of the configured rules requires a Maven
+   * build.
+   */
+  public PedanticPomChecker(Map<String, String> configuration) {
+    Set<PedanticEnforcerRule> rules = EnumSet.noneOf(PedanticEnforcerRule.class);
+    CommaSeparatorUtils.splitAndAddToCollection(Strings.nullToEmpty(configuration.get(ENFORCERS)), rules, PedanticEnforcerRule::valueOf);
+    if (rules.isEmpty()) {
+      rules.addAll(SUPPORTED_RULES);
+    }
+
+    for (PedanticEnforcerRule rule : rules) {
+      if (!SUPPORTED_RULES.contains(rule)) {
+        throw new IllegalArgumentException("Rule " + rule + " requires a Maven build. Supported rules: " + SUPPORTED_RULES);
+      }
+    }
+
+    this.enforcers = Joiner.on(",").join(rules);
+    this.staxModelReader = Boolean.parseBoolean(configuration.get(STAX_MODEL_READER));
+    this.configuration = new LinkedHashMap<>();
+    configuration.forEach((name, value) -> {
+      if (!ENFORCERS.equals(name) && !STAX_MODEL_READER.equals(name)) {
+        Field field = getParameter(name);
+        this.configuration.put(field, convert(field, value));
+      }
+    });
+    this.compound = ThreadLocal.withInitial(this::createCompound);
+  }
+
+  public static void main(String[] args) {
+    Map<String, String> configuration = new LinkedHashMap<>();
+    List<Path> paths = new ArrayList<>();
+    parseArguments(args, configuration, paths);
+
+    if (paths.isEmpty()) {
+      System.err.println("Usage: PedanticPomChecker [--<parameter>=<value>]... <directory or POM file>...");
+      System.exit(2);
+    }
+
+    Map<Path, String> errors;
+    try {
+      errors = new PedanticPomChecker(configuration).check(paths);
+    } catch (IllegalArgumentException e) {
+      System.err.println(e.getMessage());
+      System.exit(2);
+      return;
+    }
+
+    errors.forEach((pomFile, report) -> System.err.println(pomFile + "\n" + report + "\n"));
+    System.exit(errors.isEmpty() ? 0 : 1);
+  }
+
+  /**
+   * Splits the command line arguments into <code>--parameter=value</code> options and paths.
+   */
+  static void parseArguments(String[] args, Map<String, String> options, List<Path> paths) {
+    for (String arg : args) {
+      int separator = arg.indexOf('=');
+      if (arg.startsWith(OPTION_PREFIX) && separator > 0) {
+        options.put(arg.substring(OPTION_PREFIX.length(), separator), arg.substring(separator + 1));
+      } else {
+        paths.add(Paths.get(arg));
+      }
+    }
+  }
+
+  /**
+   * Checks all POM files in the given directories. Build output and hidden directories are skipped. POM files may also
+   * be given directly.
+   *
+   * @param paths Directories or POM files.
+   * @return The error reports of the POM files which violate a rule or cannot be checked, sorted by path.
+   */
+  public SortedMap<Path, String> check(Collection<Path> paths) {
+    List<Path> pomFiles = new ArrayList<>();
+    for (Path path : paths) {
+      if (Files.isDirectory(path)) {
+        findPomFiles(path, pomFiles);
+      } else {
+        pomFiles.add(path);
+      }
+    }
+
+    List<Optional<String>> results = pomFiles.parallelStream()
+        .map(this::check)
+        .collect(toList());
+
+    SortedMap<Path, String> errors = new TreeMap<>();
+    for (int i = 0; i < pomFiles.size(); i++) {
+      Path pomFile = pomFiles.get(i);
+      results.get(i).ifPresent(report -> errors.put(pomFile, report));
+    }
+
+    return errors;
+  }
+
+  /**
+   * Checks the given POM file. A POM file which cannot be read or checked, e.g. because it is not well-formed, is
+   * reported as error of this POM file.
+   *
+   * @param pomFile The POM file to check.
+   * @return The error report or an empty {@link Optional} if there were no errors.
+   */
+  public Optional<String> check(Path pomFile) {
+    try {
+      return check(pomFile, PomSnapshot.read(pomFile.toFile(), this.staxModelReader));
+    } catch (RuntimeException e) {
+      return Optional.of("Unable to check POM file: " + e);
+    }
+  }
+
+  PomSnapshot read(Path pomFile, byte[] content) {
+    return PomSnapshot.read(pomFile.toFile(), content, this.staxModelReader);
+  }
+
+  /**
+   * The configured compound enforcer is reused for all POM files which are checked in the same thread.
+   */
+  Optional<String> check(Path pomFile, PomSnapshot pom) {
+    CompoundPedanticEnforcer compound = this.compound.get();
+    compound.initialize(new StandaloneEnforcerRuleHelper(pomFile.toFile(), pom), pom::getDocument, pom::getProjectModel, pom::openContent);
+
+    ErrorReport report = new ErrorReport(compound.getDescription());
+    compound.doEnforce(report);
+
+    return report.hasErrors() ? Optional.of(report.toString()) : Optional.empty();
+  }
+
+  private CompoundPedanticEnforcer createCompound() {
+    CompoundPedanticEnforcer compound = new CompoundPedanticEnforcer();
+    compound.setEnforcers(this.enforcers);
+    this.configuration.forEach((field, value) -> setParameter(compound, field, value));
+
+    return compound;
+  }
+
+  private static Field getParameter(String name) {
+    try {
+      Field field = CompoundPedanticEnforcer.class.getDeclaredField(name);
+      if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+        throw new NoSuchFieldException(name);
+      }
+      field.setAccessible(true);
+
+      return field;
+    } catch (NoSuchFieldException e) {
+      throw new IllegalArgumentException("Unknown parameter: " + name, e);
+    }
+  }
+
+  private static Object convert(Field field, String value) {
+    if (field.getType() == String.class) {
+      return value;
+    }
+    if (field.getType() == Boolean.class || field.getType() == boolean.class) {
+      return Boolean.valueOf(value);
+    }
+
+    throw new IllegalArgumentException("Unsupported parameter: " + field.getName());
+  }
+
+  private static void setParameter(CompoundPedanticEnforcer compound, Field field, Object value) {
+    try {
+      field.set(compound, value);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("Unable to set parameter " + field.getName(), e);
+    }
+  }
+
+  static boolean isPomFile(Path file) {
+    return POM_FILE_NAME.equals(String.valueOf(file.getFileName()));
+  }
+
+  /**
+   * Build output and hidden directories below the given root directory are not checked.
+   */
+  static boolean isSkippedDirectory(Path directory, Path root) {
+    String name = String.valueOf(directory.getFileName());
+    return !directory.equals(root) && ("target".equals(name) || name.startsWith("."));
+  }
+
+  private static void findPomFiles(Path directory, List<Path> pomFiles) {
+    try {
+      Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+
+        @Override
+        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+          return isSkippedDirectory(dir, directory) ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+          if (isPomFile(file)) {
+            pomFiles.add(file);
+          }
+
+          return FileVisitResult.CONTINUE;
+        }
+      });
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to read directory " + directory, e);
+    }
+  }
+}
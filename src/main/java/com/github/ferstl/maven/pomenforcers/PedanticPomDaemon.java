@@ -0,0 +1,380 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import com.google.common.hash.HashCode;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Long-running process that keeps the results of a {@link PedanticPomChecker} up to date. The daemon watches the
+ * given directory trees and checks a POM file again only if its content has changed. The results are available
+ * through {@link #getErrors()} and {@link #check(Path)} or over a local socket. Each request on the socket is a single
+ * line, either containing the path of a POM file or nothing for all POM files. The response contains the path and
+ * the error report of each violating POM file and ends with a line containing a single <code>.</code>.
+ * <pre>
+ * ### Usage
+ *     java -cp ... com.github.ferstl.maven.pomenforcers.PedanticPomDaemon [--port=&lt;port&gt;] [--&lt;parameter&gt;=&lt;value&gt;]... &lt;directory&gt;...
+ * </pre>
+ * The parameters are the same as for the {@link PedanticPomChecker}.
+ */
+public final class PedanticPomDaemon implements Closeable {
+
+  private static final String PORT = "port";
+  private static final String END_OF_RESPONSE = ".";
+
+  private final PedanticPomChecker checker;
+  private final List<Path> roots;
+  private final ConcurrentMap<Path, CheckResult> results;
+  private final ConcurrentMap<WatchKey, Path> watchedDirectories;
+  private final WatchService watchService;
+  private final ExecutorService executor;
+  private volatile ServerSocket serverSocket;
+
+  public PedanticPomDaemon(PedanticPomChecker checker, Collection<Path> roots) throws IOException {
+    this.checker = checker;
+    this.roots = roots.stream().map(root -> root.toAbsolutePath().normalize()).collect(toList());
+    this.results = new ConcurrentHashMap<>();
+    this.watchedDirectories = new ConcurrentHashMap<>();
+    this.watchService = FileSystems.getDefault().newWatchService();
+    this.executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("pedantic-daemon-%d").setDaemon(true).build());
+  }
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = new LinkedHashMap<>();
+    List<Path> paths = new ArrayList<>();
+    PedanticPomChecker.parseArguments(args, options, paths);
+    String port = options.remove(PORT);
+
+    if (paths.isEmpty()) {
+      System.err.println("Usage: PedanticPomDaemon [--" + PORT + "=<port>] [--<parameter>=<value>]... <directory>...");
+      System.exit(2);
+    }
+
+    PedanticPomDaemon daemon = new PedanticPomDaemon(new PedanticPomChecker(options), paths);
+    Runtime.getRuntime().addShutdownHook(new Thread(daemon::close));
+    daemon.start();
+    System.out.println("Listening on port " + daemon.listen(port != null ? Integer.parseInt(port) : 0));
+
+    new CountDownLatch(1).await();
+  }
+
+  /**
+   * Checks all POM files in the watched directories and starts watching them for changes.
+   *
+   * @throws IOException if the directories cannot be read.
+   */
+  public void start() throws IOException {
+    List<Path> pomFiles = new ArrayList<>();
+    for (Path root : this.roots) {
+      register(root, pomFiles);
+    }
+    pomFiles.parallelStream().forEach(this::update);
+
+    this.executor.submit(this::watch);
+  }
+
+  /**
+   * Answers requests on a local socket.
+   *
+   * @param port The port or <code>0</code> for any free port.
+   * @return The port of the socket.
+   * @throws IOException if the socket cannot be opened.
+   */
+  public int listen(int port) throws IOException {
+    this.serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+    this.executor.submit(this::accept);
+
+    return this.serverSocket.getLocalPort();
+  }
+
+  /**
+   * Returns the current results of all POM files in the watched directories.
+   *
+   * @return The error reports of the POM files which violate a rule, sorted by path.
+   */
+  public SortedMap<Path, String> getErrors() {
+    SortedMap<Path, String> errors = new TreeMap<>();
+    this.results.forEach((pomFile, result) -> result.errors.ifPresent(report -> errors.put(pomFile, report)));
+
+    return errors;
+  }
+
+  /**
+   * Returns the result of the given POM file. The POM file is checked only if its content has changed since the last
+   * check.
+   *
+   * @param pomFile The POM file to check.
+   * @return The error report or an empty {@link Optional} if there were no errors.
+   * @throws IllegalArgumentException if the file does not exist or is not a POM file in the watched directories.
+   */
+  public Optional<String> check(Path pomFile) {
+    Path normalizedPomFile = pomFile.toAbsolutePath().normalize();
+    if (!isWatched(normalizedPomFile)) {
+      throw new IllegalArgumentException("File " + pomFile + " is not a POM file in the watched directories.");
+    }
+    if (!Files.isRegularFile(normalizedPomFile)) {
+      throw new IllegalArgumentException("File " + pomFile + " does not exist.");
+    }
+
+    return update(normalizedPomFile).errors;
+  }
+
+  @Override
+  public void close() {
+    try {
+      if (this.serverSocket != null) {
+        this.serverSocket.close();
+      }
+      this.watchService.close();
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to stop daemon", e);
+    } finally {
+      this.executor.shutdownNow();
+    }
+  }
+
+  /**
+   * A POM file is watched if it is in one of the root directories but not in a skipped directory below its root.
+   */
+  private boolean isWatched(Path pomFile) {
+    if (!PedanticPomChecker.isPomFile(pomFile)) {
+      return false;
+    }
+
+    for (Path root : this.roots) {
+      if (pomFile.startsWith(root) && !isInSkippedDirectory(pomFile, root)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private static boolean isInSkippedDirectory(Path pomFile, Path root) {
+    for (Path directory = pomFile.getParent(); !directory.equals(root); directory = directory.getParent()) {
+      if (PedanticPomChecker.isSkippedDirectory(directory, root)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private void register(Path directory, List<Path> pomFiles) throws IOException {
+    Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+
+      @Override
+      public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+        if (PedanticPomChecker.isSkippedDirectory(dir, directory)) {
+          return FileVisitResult.SKIP_SUBTREE;
+        }
+
+        WatchKey key = dir.register(PedanticPomDaemon.this.watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        PedanticPomDaemon.this.watchedDirectories.put(key, dir);
+        return FileVisitResult.CONTINUE;
+      }
+
+      @Override
+      public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+        if (PedanticPomChecker.isPomFile(file)) {
+          pomFiles.add(file);
+        }
+
+        return FileVisitResult.CONTINUE;
+      }
+    });
+  }
+
+  private void watch() {
+    try {
+      while (true) {
+        WatchKey key = this.watchService.take();
+        Path directory = this.watchedDirectories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+          if (event.kind() == OVERFLOW) {
+            rescan();
+          } else if (directory != null) {
+            handle(event.kind(), directory.resolve((Path) event.context()));
+          }
+        }
+
+        if (!key.reset()) {
+          this.watchedDirectories.remove(key);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ClosedWatchServiceException e) {
+      // The daemon was closed.
+    }
+  }
+
+  private void handle(WatchEvent.Kind<?> kind, Path path) {
+    if (kind == ENTRY_DELETE) {
+      this.results.keySet().removeIf(pomFile -> pomFile.startsWith(path));
+    } else if (kind == ENTRY_CREATE && Files.isDirectory(path) && !PedanticPomChecker.isSkippedDirectory(path, null)) {
+      List<Path> pomFiles = new ArrayList<>();
+      try {
+        register(path, pomFiles);
+      } catch (IOException e) {
+        // The directory was deleted in the meantime.
+      }
+      pomFiles.forEach(this::update);
+    } else if (PedanticPomChecker.isPomFile(path)) {
+      update(path);
+    }
+  }
+
+  private void rescan() {
+    List<Path> pomFiles = new ArrayList<>();
+    for (Path root : this.roots) {
+      try {
+        register(root, pomFiles);
+      } catch (IOException e) {
+        // Keep the results of the readable directories.
+      }
+    }
+
+    this.results.keySet().retainAll(pomFiles);
+    pomFiles.parallelStream().forEach(this::update);
+  }
+
+  private CheckResult update(Path pomFile) {
+    byte[] content;
+    try {
+      content = PomSnapshot.readContent(pomFile.toFile());
+    } catch (RuntimeException e) {
+      // The POM file was deleted in the meantime.
+      this.results.remove(pomFile);
+      return new CheckResult(null, Optional.empty());
+    }
+
+    HashCode contentHash = PomSnapshot.hash(content);
+    CheckResult result = this.results.get(pomFile);
+    if (result != null && result.contentHash.equals(contentHash)) {
+      return result;
+    }
+
+    Optional<String> errors;
+    try {
+      errors = this.checker.check(pomFile, this.checker.read(pomFile, content));
+    } catch (RuntimeException e) {
+      // Incomplete or invalid POM file, e.g. while it is being edited.
+      errors = Optional.of(String.valueOf(e.getMessage()));
+    }
+
+    result = new CheckResult(contentHash, errors);
+    if (isWatched(pomFile)) {
+      this.results.put(pomFile, result);
+    }
+    return result;
+  }
+
+  private void accept() {
+    try {
+      while (true) {
+        Socket socket = this.serverSocket.accept();
+        this.executor.submit(() -> serve(socket));
+      }
+    } catch (IOException e) {
+      // The daemon was closed.
+    }
+  }
+
+  private void serve(Socket socket) {
+    try (Socket s = socket;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(s.getInputStream(), UTF_8));
+        Writer writer = new OutputStreamWriter(s.getOutputStream(), UTF_8)) {
+      String request;
+      while ((request = reader.readLine()) != null) {
+        writer.write(respond(request.trim()));
+        writer.write(END_OF_RESPONSE + "\n");
+        writer.flush();
+      }
+    } catch (IOException e) {
+      // The client closed the connection.
+    }
+  }
+
+  private String respond(String request) {
+    Map<Path, String> errors;
+    if (request.isEmpty()) {
+      errors = getErrors();
+    } else {
+      Path pomFile = Paths.get(request);
+      try {
+        errors = check(pomFile).map(report -> Collections.singletonMap(pomFile, report)).orElse(Collections.emptyMap());
+      } catch (RuntimeException e) {
+        return e.getMessage() + "\n";
+      }
+    }
+
+    StringBuilder response = new StringBuilder();
+    errors.forEach((pomFile, report) -> response.append(pomFile).append('\n').append(report).append('\n'));
+    return response.toString();
+  }
+
+  private static final class CheckResult {
+
+    final HashCode contentHash;
+    final Optional<String> errors;
+
+    CheckResult(HashCode contentHash, Optional<String> errors) {
+      this.contentHash = contentHash;
+      this.errors = errors;
+    }
+  }
+}
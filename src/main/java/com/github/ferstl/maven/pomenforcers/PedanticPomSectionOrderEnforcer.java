@@ -20,8 +20,6 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.github.ferstl.maven.pomenforcers.model.PomSection;
 import com.github.ferstl.maven.pomenforcers.priority.PriorityOrdering;
 import com.github.ferstl.maven.pomenforcers.util.CommaSeparatorUtils;
@@ -44,7 +42,7 @@ import com.google.common.collect.Sets;
  * @id {@link PedanticEnforcerRule#POM_SECTION_ORDER}
  * @since 1.0.0
  */
-public class PedanticPomSectionOrderEnforcer extends AbstractPedanticEnforcer {
+public class PedanticPomSectionOrderEnforcer extends AbstractPomTraversalEnforcer {
 
   private final Set<PomSection> sectionPriorities;
 
@@ -80,17 +78,13 @@ public class PedanticPomSectionOrderEnforcer extends AbstractPedanticEnforcer {
   }
 
   @Override
-  protected void doEnforce(ErrorReport report) {
-    Node docElement = getPom().getDocumentElement();
-    NodeList sectionNodes = docElement.getChildNodes();
-    ArrayList<PomSection> pomSections = new ArrayList<>();
-    for (int i = 0; i < sectionNodes.getLength(); i++) {
-      Node node = sectionNodes.item(i);
-      if (node.getNodeType() == Node.ELEMENT_NODE) {
-        pomSections.add(PomSection.getBySectionName(node.getNodeName()));
-      }
-    }
+  void register(PomTraversal traversal, ErrorReport report) {
+    List<PomSection> pomSections = new ArrayList<>();
+    traversal.register("/project/*", section -> pomSections.add(PomSection.getBySectionName(section.getNodeName())));
+    traversal.onComplete(() -> analyze(pomSections, report));
+  }
 
+  private void analyze(List<PomSection> pomSections, ErrorReport report) {
     // The default ordering is the order of the PomSection enum.
     Ordering<PomSection> ordering = createPriorityOrdering(this.sectionPriorities);
 
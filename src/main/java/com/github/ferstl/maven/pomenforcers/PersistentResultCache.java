@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.apache.maven.project.MavenProject;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Persistent cache for the results of pedantic enforcer rules. The cache holds one entry per rule configuration and
+ * Maven module. Each entry stores the fingerprint of the module, which consists of the rule's cache ID (see
+ * {@link RuleResultCache#createCacheId(AbstractPedanticEnforcer, PomSnapshot, MavenProject)}) and the content of the
+ * parent POMs and the version of the pedantic enforcers, together with the error report of the rule. An entry is only
+ * used if the fingerprint still matches, so results are not reused after an upgrade of the pedantic enforcers. For
+ * SNAPSHOT versions, the build timestamp of the pedantic enforcers is part of the version.
+ * <p>
+ * Entries are written atomically, so concurrent builds using the same cache directory never read partially written
+ * entries. When the number of entries exceeds the configured maximum, the least recently used entries are evicted.
+ * </p>
+ */
+final class PersistentResultCache {
+
+  static final int DEFAULT_MAXIMUM_SIZE = 10000;
+
+  private static final int MAGIC_NUMBER = 0x50504543;
+  private static final byte FORMAT_VERSION = 2;
+  private static final String ENTRY_SUFFIX = ".bin";
+  private static final char SEPARATOR = '\0';
+  private static final String VERSION_RESOURCE = "version.properties";
+  private static final String PLUGIN_VERSION = readPluginVersion();
+
+  private static final ConcurrentMap<Path, PersistentResultCache> CACHES = new ConcurrentHashMap<>();
+
+  private final Path directory;
+  private final AtomicInteger approximateSize;
+  private volatile int maximumSize;
+
+  static PersistentResultCache forDirectory(File directory, int maximumSize) {
+    PersistentResultCache cache = CACHES.computeIfAbsent(directory.getAbsoluteFile().toPath(), PersistentResultCache::new);
+    cache.maximumSize = maximumSize;
+    return cache;
+  }
+
+  /**
+   * Creates the key of the cache entry for the given rule and project. The key does not depend on the location of the
+   * project, so the cache can be shared by builds in different working directories.
+   *
+   * @param rule The rule.
+   * @param project The Maven project.
+   * @return The entry key.
+   */
+  static String createEntryKey(AbstractPedanticEnforcer rule, MavenProject project) {
+    return Hashing.sha256().newHasher()
+        .putString(rule.getConfigurationFingerprint(), UTF_8)
+        .putChar(SEPARATOR)
+        .putString(project.getGroupId() + ":" + project.getArtifactId(), UTF_8)
+        .hash()
+        .toString();
+  }
+
+  /**
+   * Creates the fingerprint of the given project.
+   *
+   * @param cacheId The cache ID of the rule execution (includes the rule configuration, the POM content and the resolved
+   * project).
+   * @param project The Maven project.
+   * @return The fingerprint.
+   */
+  static HashCode createFingerprint(String cacheId, MavenProject project) {
+    Hasher hasher = Hashing.sha256().newHasher()
+        .putString(PLUGIN_VERSION, UTF_8)
+        .putChar(SEPARATOR)
+        .putString(cacheId, UTF_8);
+    for (MavenProject parent = project.getParent(); parent != null; parent = parent.getParent()) {
+      hasher.putChar(SEPARATOR);
+      File parentPom = parent.getFile();
+      if (parentPom != null && parentPom.isFile()) {
+        hasher.putBytes(PomSnapshot.hash(PomSnapshot.readContent(parentPom)).asBytes());
+      } else {
+        hasher.putString(parent.getId(), UTF_8);
+      }
+    }
+
+    return hasher.hash();
+  }
+
+  static String getPluginVersion() {
+    return PLUGIN_VERSION;
+  }
+
+  private static String readPluginVersion() {
+    Properties properties = new Properties();
+    try (InputStream is = PersistentResultCache.class.getResourceAsStream(VERSION_RESOURCE)) {
+      if (is != null) {
+        properties.load(is);
+      }
+    } catch (IOException e) {
+      // Fall back to the version in the manifest
+    }
+
+    String version = properties.getProperty("version", PersistentResultCache.class.getPackage().getImplementationVersion());
+    if (version == null || version.startsWith("${")) {
+      // Without a version, results must not be reused by other builds which might use another version
+      return "unknown-" + UUID.randomUUID();
+    }
+
+    if (version.endsWith("-SNAPSHOT")) {
+      // Each build of a SNAPSHOT version may contain different rules
+      String buildTimestamp = properties.getProperty("buildTimestamp");
+      return version + "@" + (buildTimestamp != null && !buildTimestamp.startsWith("${") ? buildTimestamp : UUID.randomUUID());
+    }
+
+    return version;
+  }
+
+  PersistentResultCache(Path directory) {
+    this.directory = directory;
+    this.approximateSize = new AtomicInteger(-1);
+    this.maximumSize = DEFAULT_MAXIMUM_SIZE;
+  }
+
+  /**
+   * Returns the cached result for the given entry if its fingerprint matches. Otherwise the rule is enforced and the
+   * result is stored in this cache.
+   *
+   * @param entryKey Key of the cache entry.
+   * @param fingerprint Fingerprint of the project.
+   * @param enforcer Enforces the rule and returns the error report, if any.
+   * @return The error report or an empty {@link Optional} if there were no errors.
+   */
+  Optional<String> get(String entryKey, HashCode fingerprint, Supplier<Optional<String>> enforcer) {
+    Path entry = this.directory.resolve(entryKey + ENTRY_SUFFIX);
+    Optional<String> result = read(entry, fingerprint);
+    if (result == null) {
+      result = enforcer.get();
+      write(entry, fingerprint, result);
+    }
+
+    return result;
+  }
+
+  // The cache is only an optimization. I/O errors are treated as cache misses.
+  private Optional<String> read(Path entry, HashCode fingerprint) {
+    try (InputStream is = Files.newInputStream(entry);
+         DataInputStream in = new DataInputStream(is)) {
+      if (in.readInt() != MAGIC_NUMBER || in.readByte() != FORMAT_VERSION) {
+        return null;
+      }
+
+      byte[] storedFingerprint = new byte[in.readUnsignedByte()];
+      in.readFully(storedFingerprint);
+      if (!Arrays.equals(storedFingerprint, fingerprint.asBytes())) {
+        return null;
+      }
+
+      Optional<String> result = Optional.empty();
+      if (in.readBoolean()) {
+        byte[] errors = new byte[in.readInt()];
+        in.readFully(errors);
+        result = Optional.of(new String(errors, UTF_8));
+      }
+
+      // Mark the entry as recently used
+      Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+      return result;
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private void write(Path entry, HashCode fingerprint, Optional<String> result) {
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (DataOutputStream out = new DataOutputStream(bytes)) {
+        byte[] fingerprintBytes = fingerprint.asBytes();
+        out.writeInt(MAGIC_NUMBER);
+        out.writeByte(FORMAT_VERSION);
+        out.writeByte(fingerprintBytes.length);
+        out.write(fingerprintBytes);
+        out.writeBoolean(result.isPresent());
+        if (result.isPresent()) {
+          byte[] errors = result.get().getBytes(UTF_8);
+          out.writeInt(errors.length);
+          out.write(errors);
+        }
+      }
+
+      Files.createDirectories(this.directory);
+      boolean newEntry = Files.notExists(entry);
+      Path tempFile = Files.createTempFile(this.directory, entry.getFileName().toString(), ".tmp");
+      try {
+        Files.write(tempFile, bytes.toByteArray());
+        moveAtomically(tempFile, entry);
+      } finally {
+        Files.deleteIfExists(tempFile);
+      }
+
+      if (newEntry) {
+        entryAdded();
+      }
+    } catch (IOException e) {
+      // Ignore, the result will be computed again in the next build.
+    }
+  }
+
+  private static void moveAtomically(Path source, Path target) throws IOException {
+    try {
+      Files.move(source, target, ATOMIC_MOVE, REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(source, target, REPLACE_EXISTING);
+    }
+  }
+
+  private void entryAdded() throws IOException {
+    if (this.approximateSize.get() < 0) {
+      this.approximateSize.compareAndSet(-1, listEntries().size());
+    }
+
+    if (this.approximateSize.incrementAndGet() > this.maximumSize) {
+      evict();
+    }
+  }
+
+  /**
+   * Deletes the least recently used entries. Other builds may use the same cache directory, so the actual entries are
+   * listed instead of relying on the counter of this instance.
+   */
+  private synchronized void evict() throws IOException {
+    List<Path> entries = listEntries();
+    if (entries.size() > this.maximumSize) {
+      entries.sort(Comparator.comparing(PersistentResultCache::lastModified));
+      // Evict some more entries in order not to evict again with the next new entry
+      int targetSize = this.maximumSize - this.maximumSize / 10;
+      for (Path entry : entries.subList(0, entries.size() - targetSize)) {
+        Files.deleteIfExists(entry);
+      }
+      this.approximateSize.set(targetSize);
+    } else {
+      this.approximateSize.set(entries.size());
+    }
+  }
+
+  private List<Path> listEntries() throws IOException {
+    List<Path> entries = new ArrayList<>();
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.directory, "*" + ENTRY_SUFFIX)) {
+      stream.forEach(entries::add);
+    }
+    return entries;
+  }
+
+  private static long lastModified(Path entry) {
+    try {
+      return Files.getLastModifiedTime(entry).toMillis();
+    } catch (IOException e) {
+      // Deleted by a concurrent build
+      return Long.MIN_VALUE;
+    }
+  }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.function.Supplier;
+import javax.xml.transform.dom.DOMSource;
+import org.apache.maven.model.Model;
+import org.w3c.dom.Document;
+import com.github.ferstl.maven.pomenforcers.model.ProjectModel;
+import com.github.ferstl.maven.pomenforcers.model.ProjectModelConverter;
+import com.github.ferstl.maven.pomenforcers.model.ProjectModelReader;
+import com.github.ferstl.maven.pomenforcers.model.ProjectModelUnmarshaller;
+import com.github.ferstl.maven.pomenforcers.util.EnforcerEvents;
+import com.github.ferstl.maven.pomenforcers.util.XmlUtils;
+import com.google.common.base.Suppliers;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Parsed representation of a single POM file. The file is parsed only once into a namespace-aware {@link Document}.
+ * The {@link ProjectModel} is unmarshalled from this document and not from the file, so rules working on the raw XML
+ * and rules working on the model share the same parse. Alternatively, the project model can be read from the file's
+ * content by the {@link ProjectModelReader}, which skips everything that is not part of the model, or converted from
+ * Maven's raw model of the POM file. The document and the project model are created when they are accessed for the
+ * first time, so rules which do not need them never pay for parsing.
+ */
+public final class PomSnapshot {
+
+  /**
+   * Describes how the project model of a snapshot was created.
+   */
+  enum ModelSource {
+    JAXB,
+    STAX,
+    MAVEN_MODEL
+  }
+
+  private final byte[] content;
+  private final HashCode contentHash;
+  private final Supplier<Document> document;
+  private final Supplier<ProjectModel> projectModel;
+  private final ModelSource modelSource;
+
+  /**
+   * Reads the given POM file.
+   *
+   * @param pomFile The POM file to read.
+   * @return The snapshot of the given POM file.
+   */
+  public static PomSnapshot read(File pomFile) {
+    return read(pomFile, false);
+  }
+
+  /**
+   * Reads the given POM file.
+   *
+   * @param pomFile The POM file to read.
+   * @param staxModelReader <code>true</code> to read the project model with the {@link ProjectModelReader},
+   * <code>false</code> to unmarshal it with JAXB.
+   * @return The snapshot of the given POM file.
+   */
+  public static PomSnapshot read(File pomFile, boolean staxModelReader) {
+    return read(pomFile, readContent(pomFile), staxModelReader);
+  }
+
+  static PomSnapshot read(File pomFile, byte[] content) {
+    return read(pomFile, content, false);
+  }
+
+  static PomSnapshot read(File pomFile, byte[] content, boolean staxModelReader) {
+    String systemId = pomFile.toURI().toString();
+    Supplier<Document> document = lazyDocument(content, systemId);
+    if (staxModelReader) {
+      Supplier<ProjectModel> projectModel = Suppliers.memoize(() -> {
+        EnforcerEvents.Scope event = EnforcerEvents.modelReading(systemId, ModelSource.STAX.name());
+        try {
+          return ProjectModelReader.read(new ByteArrayInputStream(content), systemId);
+        } finally {
+          event.close();
+        }
+      });
+      return new PomSnapshot(content, document, projectModel, ModelSource.STAX);
+    }
+
+    Supplier<ProjectModel> projectModel = Suppliers.memoize(() -> {
+      DOMSource source = new DOMSource(document.get(), systemId);
+      EnforcerEvents.Scope event = EnforcerEvents.modelReading(systemId, ModelSource.JAXB.name());
+      try {
+        return ProjectModelUnmarshaller.unmarshal(source);
+      } finally {
+        event.close();
+      }
+    });
+    return new PomSnapshot(content, document, projectModel, ModelSource.JAXB);
+  }
+
+  /**
+   * Creates the snapshot of a POM file whose project model is converted from Maven's raw model of this file, see
+   * {@link ProjectModelConverter}.
+   *
+   * @param pomFile The POM file.
+   * @param content The content of the POM file.
+   * @param originalModel Maven's raw model of the POM file.
+   * @return The snapshot of the given POM file.
+   */
+  static PomSnapshot fromMavenModel(File pomFile, byte[] content, Model originalModel) {
+    Supplier<ProjectModel> projectModel = Suppliers.memoize(() -> ProjectModelConverter.convert(originalModel));
+    return new PomSnapshot(content, lazyDocument(content, pomFile.toURI().toString()), projectModel, ModelSource.MAVEN_MODEL);
+  }
+
+  static byte[] readContent(File pomFile) {
+    if (!pomFile.exists()) {
+      throw new IllegalArgumentException("File " + pomFile + " does not exist.");
+    }
+    try {
+      return Files.readAllBytes(pomFile.toPath());
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to read POM file " + pomFile, e);
+    }
+  }
+
+  static HashCode hash(byte[] content) {
+    return Hashing.sha256().hashBytes(content);
+  }
+
+  private static Supplier<Document> lazyDocument(byte[] content, String systemId) {
+    return Suppliers.memoize(() -> XmlUtils.parseXml(new ByteArrayInputStream(content), systemId));
+  }
+
+  PomSnapshot(byte[] content, Supplier<Document> document, Supplier<ProjectModel> projectModel, ModelSource modelSource) {
+    this.content = requireNonNull(content, "Content is null");
+    this.contentHash = hash(content);
+    this.document = requireNonNull(document, "Document is null");
+    this.projectModel = requireNonNull(projectModel, "Project model is null");
+    this.modelSource = requireNonNull(modelSource, "Model source is null");
+  }
+
+  /**
+   * SHA-256 hash of the POM file's content.
+   *
+   * @return The content hash.
+   */
+  public HashCode getContentHash() {
+    return this.contentHash;
+  }
+
+  /**
+   * The parsed POM file. The POM file is parsed on the first call of this method or of {@link #getProjectModel()} if
+   * the project model is unmarshalled from the parsed POM file.
+   *
+   * @return The parsed POM file.
+   */
+  public Document getDocument() {
+    return this.document.get();
+  }
+
+  /**
+   * The project model of the POM file. The project model is created on the first call of this method.
+   *
+   * @return The project model.
+   */
+  public ProjectModel getProjectModel() {
+    return this.projectModel.get();
+  }
+
+  /**
+   * Opens a stream over the content of the POM file. The content is kept in memory, so the POM file is not read again.
+   *
+   * @return A new stream over the content of the POM file.
+   */
+  InputStream openContent() {
+    return new ByteArrayInputStream(this.content);
+  }
+
+  ModelSource getModelSource() {
+    return this.modelSource;
+  }
+}
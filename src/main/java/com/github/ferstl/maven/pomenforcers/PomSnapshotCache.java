@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import org.apache.maven.execution.MavenSession;
+import com.google.common.collect.MapMaker;
+import com.google.common.hash.HashCode;
+
+/**
+ * Least recently used cache of {@link PomSnapshot}s. Each Maven session gets its own cache which is shared by all
+ * pedantic enforcer rules and executions within this session. The cached snapshot of a POM file is reused as long as
+ * its canonical path and content hash do not change. The content hash is only recomputed if the size or the
+ * modification time of the file have changed or if the file was modified close to the time when it was cached.
+ */
+final class PomSnapshotCache {
+
+  static final int DEFAULT_MAXIMUM_SIZE = 100;
+
+  /**
+   * A file that was modified within this period before it was cached could be modified again without changing its
+   * size and modification time (e.g. on file systems with a timestamp resolution of two seconds).
+   */
+  private static final long TIMESTAMP_RESOLUTION_MILLIS = 2000;
+
+  private static final ConcurrentMap<MavenSession, PomSnapshotCache> SESSION_CACHES = new MapMaker().weakKeys().makeMap();
+
+  private final Map<String, Entry> entries;
+  private int maximumSize;
+
+  static PomSnapshotCache forSession(MavenSession session) {
+    return SESSION_CACHES.computeIfAbsent(session, s -> new PomSnapshotCache(DEFAULT_MAXIMUM_SIZE));
+  }
+
+  PomSnapshotCache(int maximumSize) {
+    this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        return size() > PomSnapshotCache.this.maximumSize;
+      }
+    };
+    this.maximumSize = maximumSize;
+  }
+
+  /**
+   * Sets the maximum number of cached POM files and evicts the least recently used snapshots if necessary.
+   *
+   * @param maximumSize Maximum number of cached POM files. <code>0</code> disables caching.
+   */
+  synchronized void setMaximumSize(int maximumSize) {
+    if (maximumSize < 0) {
+      throw new IllegalArgumentException("Maximum cache size must not be negative: " + maximumSize);
+    }
+    this.maximumSize = maximumSize;
+
+    while (this.entries.size() > maximumSize) {
+      this.entries.remove(this.entries.keySet().iterator().next());
+    }
+  }
+
+  synchronized int size() {
+    return this.entries.size();
+  }
+
+  /**
+   * Returns the snapshot of the given POM file. The file is parsed only if there is no up-to-date snapshot in this
+   * cache.
+   *
+   * @param pomFile POM file.
+   * @return The snapshot of the given POM file.
+   */
+  PomSnapshot get(File pomFile) {
+    return get(pomFile, PomSnapshot.ModelSource.JAXB, content -> PomSnapshot.read(pomFile, content));
+  }
+
+  /**
+   * Returns the snapshot of the given POM file. The snapshot is only created if there is no up-to-date snapshot in
+   * this cache whose project model was created from the same source.
+   *
+   * @param pomFile POM file.
+   * @param modelSource Source of the snapshot's project model.
+   * @param reader Creates the snapshot from the content of the POM file.
+   * @return The snapshot of the given POM file.
+   */
+  PomSnapshot get(File pomFile, PomSnapshot.ModelSource modelSource, Function<byte[], PomSnapshot> reader) {
+    String path = canonicalPath(pomFile);
+    long size = pomFile.length();
+    long lastModified = pomFile.lastModified();
+
+    Entry entry = getEntry(path);
+    if (entry != null && entry.snapshot.getModelSource() != modelSource) {
+      entry = null;
+    }
+    if (entry != null && entry.isUnmodified(size, lastModified)) {
+      return entry.snapshot;
+    }
+
+    byte[] content = PomSnapshot.readContent(pomFile);
+    HashCode contentHash = PomSnapshot.hash(content);
+    PomSnapshot snapshot = entry != null && entry.snapshot.getContentHash().equals(contentHash)
+        ? entry.snapshot : reader.apply(content);
+
+    putEntry(path, new Entry(snapshot, size, lastModified));
+    return snapshot;
+  }
+
+  private synchronized Entry getEntry(String path) {
+    return this.entries.get(path);
+  }
+
+  private synchronized void putEntry(String path, Entry entry) {
+    if (this.maximumSize > 0) {
+      this.entries.put(path, entry);
+    }
+  }
+
+  private static String canonicalPath(File file) {
+    try {
+      return file.getCanonicalPath();
+    } catch (IOException e) {
+      return file.getAbsolutePath();
+    }
+  }
+
+  private static final class Entry {
+
+    private final PomSnapshot snapshot;
+    private final long size;
+    private final long lastModified;
+    private final long cachedAt;
+
+    Entry(PomSnapshot snapshot, long size, long lastModified) {
+      this.snapshot = snapshot;
+      this.size = size;
+      this.lastModified = lastModified;
+      this.cachedAt = System.currentTimeMillis();
+    }
+
+    boolean isUnmodified(long size, long lastModified) {
+      return this.size == size
+          && this.lastModified == lastModified
+          && lastModified + TIMESTAMP_RESOLUTION_MILLIS < this.cachedAt;
+    }
+  }
+}
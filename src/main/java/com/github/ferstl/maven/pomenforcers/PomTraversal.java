@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import com.github.ferstl.maven.pomenforcers.util.ExecutionCounters;
+import com.google.common.base.Splitter;
+
+/**
+ * Traverses the elements of a POM document once and dispatches each element to all handlers that registered for its
+ * path. Paths are absolute and consist of the local names of the elements, e.g.
+ * <code>/project/dependencies/dependency</code>. A path ending with <code>*</code> matches all child elements, e.g.
+ * <code>/project/*</code>. Only the parts of the document that contain registered paths are traversed.
+ */
+final class PomTraversal {
+
+  private static final Splitter PATH_SPLITTER = Splitter.on('/').omitEmptyStrings();
+  private static final String WILDCARD = "*";
+
+  private final Map<List<String>, List<Consumer<Element>>> elementHandlers;
+  private final Map<List<String>, List<Consumer<Element>>> childHandlers;
+  private final Set<List<String>> traversedPaths;
+  private final List<Runnable> completionHandlers;
+
+  PomTraversal() {
+    this.elementHandlers = new HashMap<>();
+    this.childHandlers = new HashMap<>();
+    this.traversedPaths = new HashSet<>();
+    this.completionHandlers = new ArrayList<>();
+  }
+
+  /**
+   * Registers a handler for all elements matching the given path.
+   *
+   * @param path The path.
+   * @param handler The handler.
+   */
+  void register(String path, Consumer<Element> handler) {
+    List<String> elements = PATH_SPLITTER.splitToList(path);
+    if (elements.isEmpty()) {
+      throw new IllegalArgumentException("Invalid path: " + path);
+    }
+
+    int last = elements.size() - 1;
+    if (WILDCARD.equals(elements.get(last))) {
+      List<String> parentPath = new ArrayList<>(elements.subList(0, last));
+      this.childHandlers.computeIfAbsent(parentPath, p -> new ArrayList<>()).add(handler);
+      addTraversedPaths(elements.subList(0, last + 1));
+    } else {
+      this.elementHandlers.computeIfAbsent(new ArrayList<>(elements), p -> new ArrayList<>()).add(handler);
+      addTraversedPaths(elements);
+    }
+  }
+
+  /**
+   * Registers a handler that is called after the traversal. Completion handlers are called in the order they were
+   * registered.
+   *
+   * @param handler The handler.
+   */
+  void onComplete(Runnable handler) {
+    this.completionHandlers.add(handler);
+  }
+
+  void traverse(Document document) {
+    traverse(() -> document);
+  }
+
+  /**
+   * Traverses the supplied document. The document is not requested if no element handlers are registered, e.g. if
+   * there are only completion handlers.
+   *
+   * @param document Supplies the document to traverse.
+   */
+  void traverse(Supplier<Document> document) {
+    if (!this.elementHandlers.isEmpty() || !this.childHandlers.isEmpty()) {
+      Element root = document.get().getDocumentElement();
+      if (root != null) {
+        visit(root, new ArrayList<>());
+      }
+    }
+
+    this.completionHandlers.forEach(Runnable::run);
+  }
+
+  private void visit(Element element, List<String> path) {
+    path.add(getLocalName(element));
+
+    dispatch(this.elementHandlers.get(path), element);
+    if (path.size() > 1) {
+      dispatch(this.childHandlers.get(path.subList(0, path.size() - 1)), element);
+    }
+
+    if (this.traversedPaths.contains(path)) {
+      for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+        if (child instanceof Element) {
+          visit((Element) child, path);
+        }
+      }
+    }
+
+    path.remove(path.size() - 1);
+  }
+
+  // Parent paths of the registered paths. Their children need to be visited.
+  private void addTraversedPaths(List<String> elements) {
+    for (int i = 1; i < elements.size(); i++) {
+      this.traversedPaths.add(new ArrayList<>(elements.subList(0, i)));
+    }
+  }
+
+  private static void dispatch(List<Consumer<Element>> handlers, Element element) {
+    if (handlers != null) {
+      ExecutionCounters.countElement();
+      for (Consumer<Element> handler : handlers) {
+        handler.accept(element);
+      }
+    }
+  }
+
+  // Documents that are not namespace-aware have no local names
+  private static String getLocalName(Element element) {
+    String localName = element.getLocalName();
+    return localName != null ? localName : element.getNodeName();
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.apache.maven.enforcer.rule.api.EnforcerRuleHelper;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.PluginParameterExpressionEvaluator;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.PlexusContainer;
+import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluationException;
+import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+import org.codehaus.plexus.component.repository.exception.ComponentLookupException;
+
+/**
+ * Enforcer rule helper that evaluates expressions in the context of another project of the Maven reactor. All other
+ * methods delegate to the helper of the current execution.
+ */
+final class ProjectEnforcerRuleHelper implements EnforcerRuleHelper {
+
+  private final EnforcerRuleHelper delegate;
+  private final ExpressionEvaluator evaluator;
+
+  ProjectEnforcerRuleHelper(EnforcerRuleHelper delegate, MavenSession session, MavenProject project) {
+    MavenSession projectSession = session.clone();
+    projectSession.setCurrentProject(project);
+
+    this.delegate = delegate;
+    this.evaluator = new PluginParameterExpressionEvaluator(projectSession, getMojoExecution(delegate));
+  }
+
+  @Override
+  public Object evaluate(String expression) throws ExpressionEvaluationException {
+    return this.evaluator.evaluate(expression);
+  }
+
+  @Override
+  public File alignToBaseDirectory(File file) {
+    return this.evaluator.alignToBaseDirectory(file);
+  }
+
+  @Override
+  public Log getLog() {
+    return this.delegate.getLog();
+  }
+
+  @Override
+  public <T> T getComponent(Class<T> clazz) throws ComponentLookupException {
+    return this.delegate.getComponent(clazz);
+  }
+
+  @Override
+  public Object getComponent(String componentKey) throws ComponentLookupException {
+    return this.delegate.getComponent(componentKey);
+  }
+
+  @Override
+  public Object getComponent(String role, String roleHint) throws ComponentLookupException {
+    return this.delegate.getComponent(role, roleHint);
+  }
+
+  @Override
+  public <T> T getComponent(Class<T> clazz, String roleHint) throws ComponentLookupException {
+    return this.delegate.getComponent(clazz, roleHint);
+  }
+
+  @Override
+  public Map<String, ?> getComponentMap(String role) throws ComponentLookupException {
+    return this.delegate.getComponentMap(role);
+  }
+
+  @Override
+  public List<?> getComponentList(String role) throws ComponentLookupException {
+    return this.delegate.getComponentList(role);
+  }
+
+  @Override
+  public PlexusContainer getContainer() {
+    return this.delegate.getContainer();
+  }
+
+  @Override
+  public Object getCache(String key, Supplier<?> producer) {
+    return this.delegate.getCache(key, producer);
+  }
+
+  private static MojoExecution getMojoExecution(EnforcerRuleHelper helper) {
+    try {
+      return (MojoExecution) helper.evaluate("${mojoExecution}");
+    } catch (ExpressionEvaluationException e) {
+      throw new IllegalStateException("Unable to get mojo execution", e);
+    }
+  }
+}
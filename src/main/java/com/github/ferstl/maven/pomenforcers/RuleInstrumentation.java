@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.project.MavenProject;
+import com.github.ferstl.maven.pomenforcers.util.ExecutionCounters;
+import com.google.common.base.Strings;
+import com.google.common.collect.MapMaker;
+
+/**
+ * Measures the execution of pedantic enforcer rules per module and logs a summary at the end of the reactor. For each
+ * rule execution, the wall time, the CPU time, the allocated bytes, the number of POM elements dispatched by a
+ * {@link PomTraversal} and the number of artifact comparisons are recorded. CPU time and allocated bytes are only
+ * available if the JVM supports measuring them. Rules that only work on the project model do not traverse the POM
+ * document and therefore report no traversed elements.
+ * <p>
+ * Enforcer rules are not build extensions and are not notified when the Maven session ends. The summary is therefore
+ * logged by the rule execution in the last module of the reactor. Measurements that are recorded after a summary was
+ * logged, e.g. by a second execution of the enforcer plugin in the last module, are logged in an additional summary.
+ * </p>
+ */
+final class RuleInstrumentation {
+
+  private static final ConcurrentMap<MavenSession, RuleInstrumentation> SESSION_INSTRUMENTATIONS = new MapMaker().weakKeys().makeMap();
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+  private static final long NOT_AVAILABLE = -1;
+
+  private final Queue<Measurement> measurements;
+  private final Set<String> finishedModules;
+
+  static RuleInstrumentation forSession(MavenSession session) {
+    return session != null ? SESSION_INSTRUMENTATIONS.computeIfAbsent(session, s -> new RuleInstrumentation()) : new RuleInstrumentation();
+  }
+
+  static String getModuleId(MavenProject project) {
+    return project.getGroupId() + ":" + project.getArtifactId();
+  }
+
+  RuleInstrumentation() {
+    this.measurements = new ConcurrentLinkedQueue<>();
+    this.finishedModules = ConcurrentHashMap.newKeySet();
+  }
+
+  /**
+   * Executes the given rule on the current thread and records its measurement.
+   *
+   * @param module The module on which the rule is executed.
+   * @param rule The rule.
+   * @param execution Executes the rule.
+   */
+  void measure(String module, PedanticEnforcerRule rule, Runnable execution) {
+    long cpuTime = getCpuTime();
+    long allocatedBytes = getAllocatedBytes();
+    long start = System.nanoTime();
+    ExecutionCounters counters = ExecutionCounters.start();
+    try {
+      execution.run();
+    } finally {
+      ExecutionCounters.stop();
+      long wallTime = System.nanoTime() - start;
+      this.measurements.add(new Measurement(module, rule, wallTime, difference(getCpuTime(), cpuTime),
+          difference(getAllocatedBytes(), allocatedBytes), counters.getElements(), counters.getComparisons()));
+    }
+  }
+
+  /**
+   * Marks the given module as finished and logs the summary if this was the last module of the reactor. In parallel
+   * builds, the summary is logged when all modules of the reactor are finished.
+   *
+   * @param session The Maven session or <code>null</code> if not available.
+   * @param project The finished module.
+   * @param log The log.
+   */
+  void moduleFinished(MavenSession session, MavenProject project, Log log) {
+    this.finishedModules.add(getModuleId(project));
+
+    List<MavenProject> projects = session != null ? session.getProjects() : null;
+    if (projects == null || projects.isEmpty()
+        || this.finishedModules.size() >= projects.size()
+        || (!session.isParallel() && projects.get(projects.size() - 1) == project)) {
+      logSummary(log);
+    }
+  }
+
+  /**
+   * Logs the summary of all measurements that were not logged yet.
+   *
+   * @param log The log.
+   */
+  void logSummary(Log log) {
+    List<Measurement> sortedMeasurements = new ArrayList<>();
+    for (Measurement measurement = this.measurements.poll(); measurement != null; measurement = this.measurements.poll()) {
+      sortedMeasurements.add(measurement);
+    }
+    if (sortedMeasurements.isEmpty()) {
+      return;
+    }
+
+    sortedMeasurements.sort(Comparator.comparingLong((Measurement m) -> m.wallTime).reversed());
+    Map<PedanticEnforcerRule, Measurement> ruleTotals = new TreeMap<>();
+    for (Measurement measurement : sortedMeasurements) {
+      ruleTotals.merge(measurement.rule, measurement.withModule("TOTAL"), Measurement::add);
+    }
+
+    int moduleWidth = "Module".length();
+    for (Measurement measurement : sortedMeasurements) {
+      moduleWidth = Math.max(moduleWidth, measurement.module.length());
+    }
+    String format = "%-" + moduleWidth + "s | %-30s | %10s | %10s | %14s | %8s | %11s";
+    String header = String.format(format, "Module", "Rule", "Wall [ms]", "CPU [ms]", "Allocated [KB]", "Traversed", "Comparisons");
+
+    log.info("Pedantic enforcer statistics:");
+    log.info(header);
+    log.info(Strings.repeat("-", header.length()));
+    for (Measurement measurement : sortedMeasurements) {
+      log.info(measurement.format(format));
+    }
+    log.info(Strings.repeat("-", header.length()));
+    ruleTotals.values().stream()
+        .sorted(Comparator.comparingLong((Measurement m) -> m.wallTime).reversed())
+        .forEach(measurement -> log.info(measurement.format(format)));
+  }
+
+  private static long getCpuTime() {
+    return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : NOT_AVAILABLE;
+  }
+
+  private static long getAllocatedBytes() {
+    if (THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean) {
+      com.sun.management.ThreadMXBean threadMxBean = (com.sun.management.ThreadMXBean) THREAD_MX_BEAN;
+      if (threadMxBean.isThreadAllocatedMemorySupported() && threadMxBean.isThreadAllocatedMemoryEnabled()) {
+        return threadMxBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+      }
+    }
+
+    return NOT_AVAILABLE;
+  }
+
+  private static long difference(long end, long start) {
+    return end != NOT_AVAILABLE && start != NOT_AVAILABLE ? end - start : NOT_AVAILABLE;
+  }
+
+  private static long add(long value1, long value2) {
+    return value1 != NOT_AVAILABLE && value2 != NOT_AVAILABLE ? value1 + value2 : NOT_AVAILABLE;
+  }
+
+  private static String formatNanos(long nanos) {
+    return nanos != NOT_AVAILABLE ? String.format("%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1)) : "n/a";
+  }
+
+  private static String formatBytes(long bytes) {
+    return bytes != NOT_AVAILABLE ? String.valueOf(bytes / 1024) : "n/a";
+  }
+
+  private static final class Measurement {
+
+    final String module;
+    final PedanticEnforcerRule rule;
+    final long wallTime;
+    final long cpuTime;
+    final long allocatedBytes;
+    final long elements;
+    final long comparisons;
+
+    Measurement(String module, PedanticEnforcerRule rule, long wallTime, long cpuTime, long allocatedBytes, long elements, long comparisons) {
+      this.module = module;
+      this.rule = rule;
+      this.wallTime = wallTime;
+      this.cpuTime = cpuTime;
+      this.allocatedBytes = allocatedBytes;
+      this.elements = elements;
+      this.comparisons = comparisons;
+    }
+
+    Measurement withModule(String module) {
+      return new Measurement(module, this.rule, this.wallTime, this.cpuTime, this.allocatedBytes, this.elements, this.comparisons);
+    }
+
+    Measurement add(Measurement other) {
+      return new Measurement(this.module, this.rule, this.wallTime + other.wallTime, RuleInstrumentation.add(this.cpuTime, other.cpuTime),
+          RuleInstrumentation.add(this.allocatedBytes, other.allocatedBytes), this.elements + other.elements, this.comparisons + other.comparisons);
+    }
+
+    String format(String format) {
+      return String.format(format, this.module, this.rule, formatNanos(this.wallTime), formatNanos(this.cpuTime),
+          formatBytes(this.allocatedBytes), this.elements, this.comparisons);
+    }
+  }
+}
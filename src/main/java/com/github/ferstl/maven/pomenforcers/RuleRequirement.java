@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+/**
+ * Describes what a pedantic enforcer rule needs to analyze a project. The inputs of a rule are only created if the
+ * rule declares that it needs them, so rules that work on the resolved Maven project only never pay for parsing the
+ * POM file.
+ *
+ * @see AbstractPedanticEnforcer#getRequirements()
+ */
+public enum RuleRequirement {
+
+  /**
+   * The rule analyzes the parsed POM file or streams its content, see {@link AbstractPedanticEnforcer#getPom()} and
+   * {@link AbstractPedanticEnforcer#getPomContent()}.
+   */
+  DOCUMENT,
+
+  /**
+   * The rule analyzes the project model of the POM file, see {@link AbstractPedanticEnforcer#getProjectModel()}.
+   */
+  PROJECT_MODEL,
+
+  /**
+   * The rule analyzes the Maven project as resolved by Maven, i.e. with inheritance, interpolation and dependency
+   * management, e.g. its dependencies or its build plugins.
+   */
+  RESOLVED_PROJECT
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.DependencyManagement;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.model.PluginManagement;
+import org.apache.maven.project.MavenProject;
+import com.google.common.collect.MapMaker;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Caches the results of pedantic enforcer rules within a Maven session. A result is identified by a cache ID which
+ * is built from the rule's configuration, the content of the POM file and the resolved Maven project. Only the inputs
+ * which the rule {@link AbstractPedanticEnforcer#getRequirements() requires} are part of the cache ID. Repeated
+ * executions of the same rule on the same project, e.g. in multiple <code>enforce</code> executions or in forked
+ * lifecycles, reuse the cached result.
+ */
+final class RuleResultCache {
+
+  private static final char SEPARATOR = '\0';
+
+  private static final ConcurrentMap<MavenSession, RuleResultCache> SESSION_CACHES = new MapMaker().weakKeys().makeMap();
+
+  private final ConcurrentMap<String, Optional<String>> results;
+
+  static RuleResultCache forSession(MavenSession session) {
+    return SESSION_CACHES.computeIfAbsent(session, s -> new RuleResultCache());
+  }
+
+  /**
+   * Creates the cache ID for the execution of the given rule on the given project.
+   *
+   * @param rule The rule to execute.
+   * @param pom The snapshot of the project's POM file or <code>null</code> if the rule does not require the POM.
+   * @param project The resolved Maven project.
+   * @return The cache ID.
+   */
+  static String createCacheId(AbstractPedanticEnforcer rule, PomSnapshot pom, MavenProject project) {
+    Hasher hasher = Hashing.sha256().newHasher()
+        .putString(rule.getConfigurationFingerprint(), UTF_8)
+        .putChar(SEPARATOR);
+    if (pom != null) {
+      hasher.putBytes(pom.getContentHash().asBytes());
+    }
+    hasher.putChar(SEPARATOR);
+
+    putStrings(hasher, project.getGroupId(), project.getArtifactId(), project.getVersion(), project.getPackaging());
+    if (!rule.getRequirements().contains(RuleRequirement.RESOLVED_PROJECT)) {
+      return hasher.hash().toString();
+    }
+
+    putDependencies(hasher, project.getDependencies());
+    DependencyManagement dependencyManagement = project.getDependencyManagement();
+    putDependencies(hasher, dependencyManagement != null ? dependencyManagement.getDependencies() : null);
+    PluginManagement pluginManagement = project.getPluginManagement();
+    putPlugins(hasher, pluginManagement != null ? pluginManagement.getPlugins() : null);
+    putPlugins(hasher, project.getBuildPlugins());
+
+    return hasher.hash().toString();
+  }
+
+  RuleResultCache() {
+    this.results = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Returns the cached result for the given cache ID or enforces the rule if there is no cached result.
+   *
+   * @param cacheId The cache ID.
+   * @param enforcer Enforces the rule and returns the error report, if any.
+   * @return The error report or an empty {@link Optional} if there were no errors.
+   */
+  Optional<String> get(String cacheId, Supplier<Optional<String>> enforcer) {
+    Optional<String> result = this.results.get(cacheId);
+    if (result == null) {
+      result = enforcer.get();
+      this.results.putIfAbsent(cacheId, result);
+    }
+
+    return result;
+  }
+
+  private static void putDependencies(Hasher hasher, Collection<Dependency> dependencies) {
+    for (Dependency dependency : nullToEmpty(dependencies)) {
+      putStrings(hasher, dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion(),
+          dependency.getType(), dependency.getClassifier(), dependency.getScope());
+    }
+    hasher.putChar(SEPARATOR);
+  }
+
+  private static void putPlugins(Hasher hasher, Collection<Plugin> plugins) {
+    for (Plugin plugin : nullToEmpty(plugins)) {
+      putStrings(hasher, plugin.getGroupId(), plugin.getArtifactId(), plugin.getVersion());
+    }
+    hasher.putChar(SEPARATOR);
+  }
+
+  private static void putStrings(Hasher hasher, String... values) {
+    for (String value : values) {
+      hasher.putString(String.valueOf(value), UTF_8).putChar(SEPARATOR);
+    }
+  }
+
+  private static <T> Collection<T> nullToEmpty(Collection<T> collection) {
+    return collection != null ? collection : Collections.emptyList();
+  }
+}
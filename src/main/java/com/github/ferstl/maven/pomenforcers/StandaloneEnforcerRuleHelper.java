@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import org.apache.maven.enforcer.rule.api.EnforcerRuleHelper;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.DefaultPlexusContainer;
+import org.codehaus.plexus.PlexusContainer;
+import org.codehaus.plexus.PlexusContainerException;
+import org.codehaus.plexus.component.repository.exception.ComponentLookupException;
+import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
+import com.github.ferstl.maven.pomenforcers.model.ProjectModel;
+import com.google.common.base.Strings;
+
+/**
+ * Enforcer rule helper for rules that are executed outside of a Maven build. The Maven project is built from the raw
+ * POM file, i.e. without inheritance, interpolation or dependency management. The only supported expressions are
+ * <code>${project}</code> and properties declared in the POM file itself. Components cannot be looked up with the
+ * <code>getComponent()</code> methods.
+ */
+final class StandaloneEnforcerRuleHelper implements EnforcerRuleHelper {
+
+  private static final String DEFAULT_PACKAGING = "jar";
+
+  private final MavenProject project;
+  private final Log log;
+  private final ConcurrentMap<String, Object> cache;
+
+  StandaloneEnforcerRuleHelper(File pomFile, PomSnapshot pom) {
+    this.project = createRawProject(pomFile, pom);
+    this.log = new SystemStreamLog();
+    this.cache = new ConcurrentHashMap<>();
+  }
+
+  @Override
+  public Object evaluate(String expression) {
+    if ("${project}".equals(expression)) {
+      return this.project;
+    }
+
+    if (expression.startsWith("${") && expression.endsWith("}")) {
+      String property = expression.substring(2, expression.length() - 1);
+      return this.project.getProperties().getProperty(property, expression);
+    }
+
+    return expression;
+  }
+
+  @Override
+  public File alignToBaseDirectory(File file) {
+    return file.isAbsolute() ? file : new File(this.project.getBasedir(), file.getPath());
+  }
+
+  @Override
+  public Log getLog() {
+    return this.log;
+  }
+
+  @Override
+  public <T> T getComponent(Class<T> clazz) throws ComponentLookupException {
+    throw noComponents(clazz.getName(), null);
+  }
+
+  @Override
+  public Object getComponent(String componentKey) throws ComponentLookupException {
+    throw noComponents(componentKey, null);
+  }
+
+  @Override
+  public Object getComponent(String role, String roleHint) throws ComponentLookupException {
+    throw noComponents(role, roleHint);
+  }
+
+  @Override
+  public <T> T getComponent(Class<T> clazz, String roleHint) throws ComponentLookupException {
+    throw noComponents(clazz.getName(), roleHint);
+  }
+
+  @Override
+  public Map<String, ?> getComponentMap(String role) throws ComponentLookupException {
+    throw noComponents(role, null);
+  }
+
+  @Override
+  public List<?> getComponentList(String role) throws ComponentLookupException {
+    throw noComponents(role, null);
+  }
+
+  /**
+   * Returns an empty Plexus container which is created on first access and shared by all standalone helpers. The
+   * container knows only the components on the class path, not the ones of a Maven build.
+   */
+  @Override
+  public PlexusContainer getContainer() {
+    return EmptyContainerHolder.CONTAINER;
+  }
+
+  @Override
+  public Object getCache(String key, Supplier<?> producer) {
+    return this.cache.computeIfAbsent(key, k -> producer.get());
+  }
+
+  private static final class EmptyContainerHolder {
+
+    static final PlexusContainer CONTAINER = createContainer();
+
+    private static PlexusContainer createContainer() {
+      try {
+        return new DefaultPlexusContainer();
+      } catch (PlexusContainerException e) {
+        throw new IllegalStateException("Unable to create a Plexus container", e);
+      }
+    }
+  }
+
+  private static ComponentLookupException noComponents(String role, String roleHint) {
+    return new ComponentLookupException("No components available outside of a Maven build", role, roleHint);
+  }
+
+  private static MavenProject createRawProject(File pomFile, PomSnapshot pom) {
+    ProjectModel projectModel = pom.getProjectModel();
+
+    MavenProject project = new MavenProject();
+    project.setFile(pomFile);
+    project.setGroupId(projectModel.groupId);
+    project.setArtifactId(projectModel.artifactId);
+    project.setPackaging(Strings.isNullOrEmpty(projectModel.getPackaging()) ? DEFAULT_PACKAGING : projectModel.getPackaging());
+    project.getProperties().putAll(projectModel.getProperties());
+
+    for (DependencyModel dependencyModel : projectModel.getDependencies()) {
+      Dependency dependency = new Dependency();
+      dependency.setGroupId(dependencyModel.getGroupId());
+      dependency.setArtifactId(dependencyModel.getArtifactId());
+      dependency.setVersion(dependencyModel.getVersion());
+      dependency.setScope(dependencyModel.getScope().getScopeName());
+      project.getDependencies().add(dependency);
+    }
+
+    return project;
+  }
+}
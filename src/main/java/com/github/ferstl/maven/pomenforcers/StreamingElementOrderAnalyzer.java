@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import com.github.ferstl.maven.pomenforcers.util.XmlUtils;
+import com.google.common.base.Splitter;
+import com.google.common.collect.Ordering;
+
+/**
+ * Checks the order of the child elements of repeated POM elements, e.g. of each &lt;dependency&gt;, by streaming the
+ * POM file with a StAX reader. Elements are matched by their local name, i.e. regardless of the namespace they are
+ * declared in.
+ * <p>
+ * The first pass over the POM content only records the names of the child elements. The text content of the child
+ * elements is read in a second pass, which is only done if there are unordered elements. Only the unordered elements
+ * are captured in the second pass. Both passes stream the POM content that is already kept in memory, so the POM file
+ * is not read again.
+ * </p>
+ */
+final class StreamingElementOrderAnalyzer {
+
+  private static final Splitter PATH_SPLITTER = Splitter.on('/').omitEmptyStrings();
+
+  private final Ordering<String> elementOrdering;
+  private final List<List<String>> paths;
+
+  /**
+   * Constructor.
+   *
+   * @param elementOrdering Required order of the child elements.
+   * @param paths Absolute paths of the elements to check, e.g. <code>/project/dependencies/dependency</code>.
+   */
+  StreamingElementOrderAnalyzer(Ordering<String> elementOrdering, Collection<String> paths) {
+    this.elementOrdering = elementOrdering;
+    this.paths = new ArrayList<>(paths.size());
+    for (String path : paths) {
+      this.paths.add(PATH_SPLITTER.splitToList(path));
+    }
+  }
+
+  /**
+   * Analyzes the given POM content.
+   *
+   * @param content Supplies a new stream over the POM content for each pass.
+   * @param systemId System ID of the POM content. Used for error messages.
+   * @return For each path, the unordered elements as map of the child element names to their text content.
+   */
+  List<List<Map<String, String>>> analyze(Supplier<InputStream> content, String systemId) {
+    List<BitSet> unorderedElements = new ArrayList<>(this.paths.size());
+    List<List<Map<String, String>>> result = new ArrayList<>(this.paths.size());
+    for (int i = 0; i < this.paths.size(); i++) {
+      unorderedElements.add(new BitSet());
+      result.add(new ArrayList<>());
+    }
+
+    stream(content.get(), systemId, new OrderChecker(unorderedElements));
+    if (unorderedElements.stream().anyMatch(elements -> !elements.isEmpty())) {
+      stream(content.get(), systemId, new ContentCollector(unorderedElements, result));
+    }
+
+    return result;
+  }
+
+  private void stream(InputStream content, String systemId, ElementHandler handler) {
+    try (InputStream is = content) {
+      XMLStreamReader reader = XmlUtils.createXmlStreamReader(is, systemId);
+      try {
+        stream(reader, handler);
+      } finally {
+        reader.close();
+      }
+    } catch (IOException | XMLStreamException e) {
+      throw new IllegalStateException("Unable to read POM file " + systemId, e);
+    }
+  }
+
+  private void stream(XMLStreamReader reader, ElementHandler handler) throws XMLStreamException {
+    List<String> elementPath = new ArrayList<>();
+    int[] elementCounts = new int[this.paths.size()];
+    // Index of the path that matches the current element or -1 if the reader is not within a matching element
+    int currentPath = -1;
+    int currentDepth = 0;
+
+    while (reader.hasNext()) {
+      switch (reader.next()) {
+        case XMLStreamConstants.START_ELEMENT:
+          elementPath.add(reader.getLocalName());
+          if (currentPath < 0) {
+            currentPath = this.paths.indexOf(elementPath);
+            if (currentPath >= 0) {
+              currentDepth = elementPath.size();
+              handler.startElement(currentPath, elementCounts[currentPath]++);
+            }
+          } else if (elementPath.size() == currentDepth + 1) {
+            handler.startChild(reader.getLocalName());
+          }
+          break;
+
+        case XMLStreamConstants.END_ELEMENT:
+          if (currentPath >= 0) {
+            if (elementPath.size() == currentDepth + 1) {
+              handler.endChild(reader.getLocalName());
+            } else if (elementPath.size() == currentDepth) {
+              handler.endElement();
+              currentPath = -1;
+            }
+          }
+          elementPath.remove(elementPath.size() - 1);
+          break;
+
+        case XMLStreamConstants.CHARACTERS:
+        case XMLStreamConstants.CDATA:
+        case XMLStreamConstants.SPACE:
+          if (currentPath >= 0 && elementPath.size() > currentDepth) {
+            handler.text(reader);
+          }
+          break;
+
+        default:
+          // Comments and processing instructions are not part of the text content.
+          break;
+      }
+    }
+  }
+
+  private interface ElementHandler {
+
+    void startElement(int pathIndex, int elementIndex);
+
+    void startChild(String name);
+
+    void text(XMLStreamReader reader);
+
+    void endChild(String name);
+
+    void endElement();
+  }
+
+  private class OrderChecker implements ElementHandler {
+
+    private final List<BitSet> unorderedElements;
+    private final LinkedHashSet<String> childNames;
+    private int pathIndex;
+    private int elementIndex;
+
+    OrderChecker(List<BitSet> unorderedElements) {
+      this.unorderedElements = unorderedElements;
+      this.childNames = new LinkedHashSet<>();
+    }
+
+    @Override
+    public void startElement(int pathIndex, int elementIndex) {
+      this.pathIndex = pathIndex;
+      this.elementIndex = elementIndex;
+      this.childNames.clear();
+    }
+
+    @Override
+    public void startChild(String name) {
+      this.childNames.add(name);
+    }
+
+    @Override
+    public void text(XMLStreamReader reader) {
+      // not needed for the order check
+    }
+
+    @Override
+    public void endChild(String name) {
+      // nothing to do
+    }
+
+    @Override
+    public void endElement() {
+      if (!StreamingElementOrderAnalyzer.this.elementOrdering.isOrdered(this.childNames)) {
+        this.unorderedElements.get(this.pathIndex).set(this.elementIndex);
+      }
+    }
+  }
+
+  private static class ContentCollector implements ElementHandler {
+
+    private final List<BitSet> unorderedElements;
+    private final List<List<Map<String, String>>> result;
+    private final StringBuilder text;
+    private Map<String, String> currentElement;
+
+    ContentCollector(List<BitSet> unorderedElements, List<List<Map<String, String>>> result) {
+      this.unorderedElements = unorderedElements;
+      this.result = result;
+      this.text = new StringBuilder();
+    }
+
+    @Override
+    public void startElement(int pathIndex, int elementIndex) {
+      if (this.unorderedElements.get(pathIndex).get(elementIndex)) {
+        this.currentElement = new LinkedHashMap<>();
+        this.result.get(pathIndex).add(this.currentElement);
+      }
+    }
+
+    @Override
+    public void startChild(String name) {
+      this.text.setLength(0);
+    }
+
+    @Override
+    public void text(XMLStreamReader reader) {
+      if (this.currentElement != null) {
+        this.text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+      }
+    }
+
+    @Override
+    public void endChild(String name) {
+      if (this.currentElement != null) {
+        this.currentElement.put(name, this.text.toString());
+      }
+    }
+
+    @Override
+    public void endElement() {
+      this.currentElement = null;
+    }
+  }
+}
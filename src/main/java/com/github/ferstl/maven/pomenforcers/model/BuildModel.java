@@ -31,6 +31,14 @@ class BuildModel {
   @XmlElement(namespace = "http://maven.apache.org/POM/4.0.0")
   private PluginsModel plugins;
 
+  // Constructor used by JAXB
+  BuildModel() {
+  }
+
+  BuildModel(PluginManagementModel pluginManagement, PluginsModel plugins) {
+    this.pluginManagement = pluginManagement;
+    this.plugins = plugins;
+  }
 
   public List<PluginModel> getManagedPlugins() {
     return this.pluginManagement != null ? this.pluginManagement.getPlugins() : Collections.emptyList();
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.model;
+
+/**
+ * An {@link ArtifactModel} pattern whose wildcards are analyzed once. The group ID and the artifact ID of the pattern
+ * may be a single <code>*</code>, start and/or end with a <code>*</code> or contain no wildcard at all. Use this class
+ * instead of {@link ArtifactModel#matches(ArtifactModel)} when the same pattern is matched against many artifacts.
+ */
+public final class CompiledArtifactPattern {
+
+  private static final char WILDCARD = '*';
+
+  private final ArtifactModel pattern;
+  private final WildcardMatcher groupIdMatcher;
+  private final WildcardMatcher artifactIdMatcher;
+
+  /**
+   * Compiles the given pattern.
+   *
+   * @param pattern The pattern.
+   * @return The compiled pattern.
+   * @throws IllegalArgumentException if the group ID or the artifact ID is not a valid wildcard pattern.
+   */
+  public static CompiledArtifactPattern compile(ArtifactModel pattern) {
+    return new CompiledArtifactPattern(pattern);
+  }
+
+  private CompiledArtifactPattern(ArtifactModel pattern) {
+    this.pattern = pattern;
+    this.groupIdMatcher = WildcardMatcher.compile(pattern.getGroupId());
+    this.artifactIdMatcher = WildcardMatcher.compile(pattern.getArtifactId());
+  }
+
+  public ArtifactModel getPattern() {
+    return this.pattern;
+  }
+
+  public boolean matches(ArtifactModel artifact) {
+    return artifact != null && matches(artifact.getGroupId(), artifact.getArtifactId());
+  }
+
+  public boolean matches(String groupId, String artifactId) {
+    return this.groupIdMatcher.matches(groupId) && this.artifactIdMatcher.matches(artifactId);
+  }
+
+  @Override
+  public String toString() {
+    return this.pattern.toString();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (!(obj instanceof CompiledArtifactPattern)) {
+      return false;
+    }
+
+    return this.pattern.equals(((CompiledArtifactPattern) obj).pattern);
+  }
+
+  @Override
+  public int hashCode() {
+    return this.pattern.hashCode();
+  }
+
+  static void validate(String pattern) {
+    Strategy.of(pattern);
+  }
+
+  /**
+   * Matches the given string against the given wildcard pattern without compiling the pattern. This method does not
+   * allocate any objects, which makes it suitable for patterns that are matched only once.
+   *
+   * @param string The string to match.
+   * @param pattern The wildcard pattern.
+   * @return <code>true</code> if the string matches the pattern.
+   */
+  static boolean matchesWildcard(String string, String pattern) {
+    Strategy strategy = Strategy.of(pattern);
+    return strategy.matches(string, pattern, strategy.start(), strategy.end(pattern));
+  }
+
+  /**
+   * Holds the strategy of a wildcard pattern and the region of the pattern without its wildcards, so that no
+   * substrings have to be created.
+   */
+  private static final class WildcardMatcher {
+
+    private final Strategy strategy;
+    private final String pattern;
+    private final int start;
+    private final int end;
+
+    static WildcardMatcher compile(String pattern) {
+      Strategy strategy = Strategy.of(pattern);
+      return new WildcardMatcher(strategy, pattern, strategy.start(), strategy.end(pattern));
+    }
+
+    private WildcardMatcher(Strategy strategy, String pattern, int start, int end) {
+      this.strategy = strategy;
+      this.pattern = pattern;
+      this.start = start;
+      this.end = end;
+    }
+
+    boolean matches(String string) {
+      return this.strategy.matches(string, this.pattern, this.start, this.end);
+    }
+  }
+
+  /**
+   * Matching strategies for wildcard patterns. The strategies compare the string to the region of the pattern between
+   * <code>start</code> (inclusive) and <code>end</code> (exclusive), which excludes the leading and trailing
+   * wildcards.
+   */
+  private enum Strategy {
+    EXACT(false, false) {
+      @Override
+      boolean matches(String string, String pattern, int start, int end) {
+        return string.equals(pattern);
+      }
+    },
+    PREFIX(false, true) {
+      @Override
+      boolean matches(String string, String pattern, int start, int end) {
+        return string.regionMatches(0, pattern, start, end - start);
+      }
+    },
+    SUFFIX(true, false) {
+      @Override
+      boolean matches(String string, String pattern, int start, int end) {
+        int length = end - start;
+        return string.regionMatches(string.length() - length, pattern, start, length);
+      }
+    },
+    CONTAINS(true, true) {
+      @Override
+      boolean matches(String string, String pattern, int start, int end) {
+        int length = end - start;
+        for (int i = 0; i <= string.length() - length; i++) {
+          if (string.regionMatches(i, pattern, start, length)) {
+            return true;
+          }
+        }
+
+        return false;
+      }
+    },
+    ANY(true, false) {
+      @Override
+      boolean matches(String string, String pattern, int start, int end) {
+        return true;
+      }
+    };
+
+    private final boolean leadingWildcard;
+    private final boolean trailingWildcard;
+
+    Strategy(boolean leadingWildcard, boolean trailingWildcard) {
+      this.leadingWildcard = leadingWildcard;
+      this.trailingWildcard = trailingWildcard;
+    }
+
+    static Strategy of(String pattern) {
+      if (pattern == null) {
+        return EXACT;
+      }
+
+      int wildcardCount = 0;
+      for (int i = 0; i < pattern.length(); i++) {
+        if (pattern.charAt(i) == WILDCARD) {
+          wildcardCount++;
+        }
+      }
+
+      if (wildcardCount == 0) {
+        return EXACT;
+      }
+
+      int length = pattern.length();
+      boolean leading = pattern.charAt(0) == WILDCARD;
+      boolean trailing = pattern.charAt(length - 1) == WILDCARD;
+      if (wildcardCount == 1 && length == 1) {
+        return ANY;
+      } else if (wildcardCount == 1 && leading) {
+        return SUFFIX;
+      } else if (wildcardCount == 1 && trailing) {
+        return PREFIX;
+      } else if (wildcardCount == 2 && leading && trailing) {
+        return CONTAINS;
+      } else {
+        throw new IllegalArgumentException("Invalid wildcard pattern '" + pattern + "'");
+      }
+    }
+
+    int start() {
+      return this.leadingWildcard ? 1 : 0;
+    }
+
+    int end(String pattern) {
+      return pattern == null ? 0 : pattern.length() - (this.trailingWildcard ? 1 : 0);
+    }
+
+    abstract boolean matches(String string, String pattern, int start, int end);
+  }
+}
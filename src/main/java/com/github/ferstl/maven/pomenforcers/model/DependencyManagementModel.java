@@ -26,6 +26,14 @@ class DependencyManagementModel {
   @XmlElement(namespace = "http://maven.apache.org/POM/4.0.0")
   private DependenciesModel dependencies;
 
+  // Constructor used by JAXB
+  DependencyManagementModel() {
+  }
+
+  DependencyManagementModel(DependenciesModel dependencies) {
+    this.dependencies = dependencies;
+  }
+
   public List<DependencyModel> getDependencies() {
     return this.dependencies != null ? this.dependencies.getDependencies() : Collections.emptyList();
   }
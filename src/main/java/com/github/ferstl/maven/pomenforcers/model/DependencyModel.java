@@ -74,6 +74,22 @@ public class DependencyModel extends ArtifactModel {
     return this.exclusions != null ? this.exclusions : Collections.emptyList();
   }
 
+  void setScope(DependencyScope scope) {
+    this.scope = scope;
+  }
+
+  void setClassifier(String classifier) {
+    this.classifier = classifier;
+  }
+
+  void setType(String type) {
+    this.type = type;
+  }
+
+  void setExclusions(List<ArtifactModel> exclusions) {
+    this.exclusions = exclusions;
+  }
+
   @Override
   public String toString() {
     return TO_STRING_JOINER.join(
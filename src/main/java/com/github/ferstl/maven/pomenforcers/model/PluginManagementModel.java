@@ -25,6 +25,14 @@ class PluginManagementModel {
   @XmlElement(namespace = "http://maven.apache.org/POM/4.0.0")
   private PluginsModel plugins;
 
+  // Constructor used by JAXB
+  PluginManagementModel() {
+  }
+
+  PluginManagementModel(PluginsModel plugins) {
+    this.plugins = plugins;
+  }
+
   public List<PluginModel> getPlugins() {
     return this.plugins != null ? this.plugins.getPlugins() : Collections.emptyList();
   }
@@ -21,6 +21,7 @@ import java.util.Objects;
 import javax.xml.bind.annotation.XmlAnyElement;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
+import javax.xml.bind.annotation.XmlTransient;
 import org.w3c.dom.Element;
 
 public class PluginModel extends ArtifactModel {
@@ -29,6 +30,13 @@ public class PluginModel extends ArtifactModel {
   @XmlAnyElement
   private List<Element> configItems;
 
+  /**
+   * Number of configuration items if this plugin was read by the {@link ProjectModelReader}, which does not keep the
+   * configuration.
+   */
+  @XmlTransient
+  private int configurationSize;
+
   @XmlElement(namespace = "http://maven.apache.org/POM/4.0.0")
   private DependenciesModel dependencies;
 
@@ -40,13 +48,25 @@ public class PluginModel extends ArtifactModel {
   }
 
   public boolean isConfigured() {
-    return this.configItems != null && !this.configItems.isEmpty();
+    return this.configurationSize > 0 || (this.configItems != null && !this.configItems.isEmpty());
   }
 
   public List<DependencyModel> getDependencies() {
     return this.dependencies != null ? this.dependencies.getDependencies() : Collections.emptyList();
   }
 
+  int getConfigurationSize() {
+    return this.configurationSize;
+  }
+
+  void setConfigurationSize(int configurationSize) {
+    this.configurationSize = configurationSize;
+  }
+
+  void setDependencies(DependenciesModel dependencies) {
+    this.dependencies = dependencies;
+  }
+
   @Override
   public boolean equals(Object obj) {
     if (obj == this) {
@@ -60,11 +80,12 @@ public class PluginModel extends ArtifactModel {
     return super.equals(other)
         // TODO: Element implementations may not implement equals()!!
         && Objects.equals(this.configItems, other.configItems)
+        && this.configurationSize == other.configurationSize
         && Objects.equals(this.dependencies, other.dependencies);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(super.hashCode(), this.configItems, this.dependencies);
+    return Objects.hash(super.hashCode(), this.configItems, this.configurationSize, this.dependencies);
   }
 }
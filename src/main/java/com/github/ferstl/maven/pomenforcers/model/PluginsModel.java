@@ -15,6 +15,8 @@
  */
 package com.github.ferstl.maven.pomenforcers.model;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -28,6 +30,10 @@ class PluginsModel {
   public PluginsModel() {
   }
 
+  PluginsModel(Collection<PluginModel> plugins) {
+    this.plugins = new ArrayList<>(plugins);
+  }
+
   public List<PluginModel> getPlugins() {
     return this.plugins != null ? this.plugins : Collections.emptyList();
   }
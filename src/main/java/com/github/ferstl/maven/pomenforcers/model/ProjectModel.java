@@ -17,10 +17,12 @@ package com.github.ferstl.maven.pomenforcers.model;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import com.google.common.base.Joiner;
 
 @XmlRootElement(name = "project")
@@ -32,6 +34,12 @@ public class ProjectModel {
   public String groupId;
   @XmlElement(namespace = "http://maven.apache.org/POM/4.0.0")
   public String artifactId;
+  @XmlElement(namespace = "http://maven.apache.org/POM/4.0.0")
+  private String packaging;
+
+  @XmlElement(namespace = "http://maven.apache.org/POM/4.0.0")
+  @XmlJavaTypeAdapter(PropertiesAdapter.class)
+  private Map<String, String> properties;
 
   @XmlElementWrapper(namespace = "http://maven.apache.org/POM/4.0.0")
   @XmlElement(name = "module", namespace = "http://maven.apache.org/POM/4.0.0")
@@ -46,6 +54,22 @@ public class ProjectModel {
   @XmlElement(namespace = "http://maven.apache.org/POM/4.0.0")
   public BuildModel build;
 
+  public String getPackaging() {
+    return this.packaging;
+  }
+
+  void setPackaging(String packaging) {
+    this.packaging = packaging;
+  }
+
+  public Map<String, String> getProperties() {
+    return this.properties != null ? this.properties : Collections.emptyMap();
+  }
+
+  void setProperties(Map<String, String> properties) {
+    this.properties = properties;
+  }
+
   public List<String> getModules() {
     return this.modules != null ? this.modules : Collections.emptyList();
   }
@@ -97,6 +121,8 @@ public class ProjectModel {
     ProjectModel other = (ProjectModel) obj;
     return Objects.equals(this.groupId, other.groupId)
         && Objects.equals(this.artifactId, other.artifactId)
+        && Objects.equals(this.packaging, other.packaging)
+        && Objects.equals(this.properties, other.properties)
         && Objects.equals(this.modules, other.modules)
         && Objects.equals(this.dependencyManagement, other.dependencyManagement)
         && Objects.equals(this.dependencies, other.dependencies)
@@ -106,6 +132,6 @@ public class ProjectModel {
   @Override
   public int hashCode() {
     return Objects.hash(
-        this.groupId, this.artifactId, this.modules, this.dependencyManagement, this.dependencies, this.build);
+        this.groupId, this.artifactId, this.packaging, this.properties, this.modules, this.dependencyManagement, this.dependencies, this.build);
   }
 }
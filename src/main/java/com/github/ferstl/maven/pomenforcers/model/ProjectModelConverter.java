@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.maven.model.Build;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.DependencyManagement;
+import org.apache.maven.model.Exclusion;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.model.PluginManagement;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+
+/**
+ * Creates a {@link ProjectModel} from the raw Maven {@link Model} of a project, i.e. from
+ * {@link org.apache.maven.project.MavenProject#getOriginalModel()}, which Maven has already read from the POM file.
+ * The created model differs from the unmarshalled one in the following details:
+ * <ul>
+ * <li>Maven reads the POM file regardless of its namespace.</li>
+ * <li>Maven uses the default packaging <code>jar</code> if the project does not declare it.</li>
+ * <li>Maven uses default values for the type of dependencies (<code>jar</code>) and the group ID of plugins
+ * (<code>org.apache.maven.plugins</code>) if they are not declared.</li>
+ * <li>Like the {@link ProjectModelReader}, only the number of configuration items of plugins is recorded.</li>
+ * </ul>
+ */
+public final class ProjectModelConverter {
+
+  private ProjectModelConverter() {
+    throw new AssertionError("Not instantiable");
+  }
+
+  public static ProjectModel convert(Model model) {
+    ProjectModel projectModel = new ProjectModel();
+    projectModel.groupId = model.getGroupId();
+    projectModel.artifactId = model.getArtifactId();
+    projectModel.setPackaging(model.getPackaging());
+    if (!model.getProperties().isEmpty()) {
+      Map<String, String> properties = new LinkedHashMap<>();
+      model.getProperties().forEach((name, value) -> properties.put(name.toString(), value.toString().trim()));
+      projectModel.setProperties(properties);
+    }
+    if (!model.getModules().isEmpty()) {
+      projectModel.modules = new ArrayList<>(model.getModules());
+    }
+
+    DependencyManagement dependencyManagement = model.getDependencyManagement();
+    if (dependencyManagement != null) {
+      projectModel.dependencyManagement = new DependencyManagementModel(convertDependencies(dependencyManagement.getDependencies()));
+    }
+    projectModel.dependencies = convertDependencies(model.getDependencies());
+
+    Build build = model.getBuild();
+    if (build != null) {
+      PluginManagement pluginManagement = build.getPluginManagement();
+      PluginManagementModel pluginManagementModel = pluginManagement != null ?
+          new PluginManagementModel(convertPlugins(pluginManagement.getPlugins())) : null;
+      projectModel.build = new BuildModel(pluginManagementModel, convertPlugins(build.getPlugins()));
+    }
+
+    return projectModel;
+  }
+
+  private static DependenciesModel convertDependencies(List<Dependency> dependencies) {
+    if (dependencies.isEmpty()) {
+      return null;
+    }
+
+    List<DependencyModel> dependencyModels = new ArrayList<>(dependencies.size());
+    for (Dependency dependency : dependencies) {
+      DependencyModel dependencyModel = new DependencyModel();
+      dependencyModel.setGroupId(dependency.getGroupId());
+      dependencyModel.setArtifactId(dependency.getArtifactId());
+      dependencyModel.setVersion(dependency.getVersion());
+      dependencyModel.setClassifier(dependency.getClassifier());
+      dependencyModel.setType(dependency.getType());
+      dependencyModel.setScope(convertScope(dependency.getScope()));
+      if (!dependency.getExclusions().isEmpty()) {
+        List<ArtifactModel> exclusions = new ArrayList<>(dependency.getExclusions().size());
+        for (Exclusion exclusion : dependency.getExclusions()) {
+          ArtifactModel exclusionModel = new ArtifactModel();
+          exclusionModel.setGroupId(exclusion.getGroupId());
+          exclusionModel.setArtifactId(exclusion.getArtifactId());
+          exclusions.add(exclusionModel);
+        }
+        dependencyModel.setExclusions(exclusions);
+      }
+      dependencyModels.add(dependencyModel);
+    }
+
+    return new DependenciesModel(dependencyModels);
+  }
+
+  private static PluginsModel convertPlugins(List<Plugin> plugins) {
+    if (plugins.isEmpty()) {
+      return null;
+    }
+
+    List<PluginModel> pluginModels = new ArrayList<>(plugins.size());
+    for (Plugin plugin : plugins) {
+      PluginModel pluginModel = new PluginModel();
+      pluginModel.setGroupId(plugin.getGroupId());
+      pluginModel.setArtifactId(plugin.getArtifactId());
+      pluginModel.setVersion(plugin.getVersion());
+      Object configuration = plugin.getConfiguration();
+      pluginModel.setConfigurationSize(configuration instanceof Xpp3Dom ? ((Xpp3Dom) configuration).getChildCount() : 0);
+      pluginModel.setDependencies(convertDependencies(plugin.getDependencies()));
+      pluginModels.add(pluginModel);
+    }
+
+    return new PluginsModel(pluginModels);
+  }
+
+  /**
+   * Unknown scopes are ignored, see {@link ProjectModelReader}.
+   */
+  private static DependencyScope convertScope(String scope) {
+    if (scope == null) {
+      return null;
+    }
+    try {
+      return DependencyScope.getByScopeName(scope);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.model;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import com.github.ferstl.maven.pomenforcers.util.XmlUtils;
+
+/**
+ * Reads a {@link ProjectModel} with a StAX reader. This is an alternative to the JAXB unmarshalling of the
+ * {@link ProjectModelUnmarshaller} which produces the same model, with one exception: The configuration of plugins is
+ * not kept, only the number of configuration items is recorded. All POM sections that are not part of the model are
+ * skipped without being materialized.
+ * <p>
+ * Like the JAXB bindings of the model classes, this reader only considers elements in the POM namespace. Elements in
+ * other namespaces are skipped.
+ * </p>
+ */
+public final class ProjectModelReader {
+
+  private static final String POM_NAMESPACE = "http://maven.apache.org/POM/4.0.0";
+
+  private ProjectModelReader() {
+    throw new AssertionError("Not instantiable");
+  }
+
+  /**
+   * Reads the project model from the given input stream.
+   *
+   * @param inputStream POM content.
+   * @param systemId System ID of the POM content. Used for error messages.
+   * @return The project model.
+   */
+  public static ProjectModel read(InputStream inputStream, String systemId) {
+    XMLStreamReader reader = XmlUtils.createXmlStreamReader(inputStream, systemId);
+    try {
+      try {
+        while (reader.next() != XMLStreamConstants.START_ELEMENT) {
+          // Skip the prolog
+        }
+        return readProject(reader);
+      } finally {
+        reader.close();
+      }
+    } catch (XMLStreamException e) {
+      throw new IllegalStateException("Unable to read POM file " + systemId, e);
+    }
+  }
+
+  private static ProjectModel readProject(XMLStreamReader reader) throws XMLStreamException {
+    ProjectModel project = new ProjectModel();
+    while (nextChild(reader)) {
+      switch (pomElementName(reader)) {
+        case "groupId":
+          project.groupId = readText(reader);
+          break;
+        case "artifactId":
+          project.artifactId = readText(reader);
+          break;
+        case "packaging":
+          project.setPackaging(readText(reader));
+          break;
+        case "properties":
+          project.setProperties(readProperties(reader));
+          break;
+        case "modules":
+          project.modules = readModules(reader);
+          break;
+        case "dependencyManagement":
+          project.dependencyManagement = readDependencyManagement(reader);
+          break;
+        case "dependencies":
+          project.dependencies = readDependencies(reader);
+          break;
+        case "build":
+          project.build = readBuild(reader);
+          break;
+        default:
+          skipElement(reader);
+      }
+    }
+    return project;
+  }
+
+  /**
+   * Like the {@link PropertiesAdapter}, properties in any namespace are read and their values are trimmed.
+   */
+  private static Map<String, String> readProperties(XMLStreamReader reader) throws XMLStreamException {
+    Map<String, String> properties = new LinkedHashMap<>();
+    while (nextChild(reader)) {
+      String name = reader.getLocalName();
+      properties.put(name, readText(reader).trim());
+    }
+    return properties;
+  }
+
+  private static List<String> readModules(XMLStreamReader reader) throws XMLStreamException {
+    List<String> modules = new ArrayList<>();
+    while (nextChild(reader)) {
+      if ("module".equals(pomElementName(reader))) {
+        modules.add(readText(reader));
+      } else {
+        skipElement(reader);
+      }
+    }
+    return modules;
+  }
+
+  private static DependencyManagementModel readDependencyManagement(XMLStreamReader reader) throws XMLStreamException {
+    DependenciesModel dependencies = null;
+    while (nextChild(reader)) {
+      if ("dependencies".equals(pomElementName(reader))) {
+        dependencies = readDependencies(reader);
+      } else {
+        skipElement(reader);
+      }
+    }
+    return new DependencyManagementModel(dependencies);
+  }
+
+  private static DependenciesModel readDependencies(XMLStreamReader reader) throws XMLStreamException {
+    List<DependencyModel> dependencies = new ArrayList<>();
+    while (nextChild(reader)) {
+      if ("dependency".equals(pomElementName(reader))) {
+        dependencies.add(readDependency(reader));
+      } else {
+        skipElement(reader);
+      }
+    }
+    return dependencies.isEmpty() ? new DependenciesModel() : new DependenciesModel(dependencies);
+  }
+
+  private static DependencyModel readDependency(XMLStreamReader reader) throws XMLStreamException {
+    DependencyModel dependency = new DependencyModel();
+    while (nextChild(reader)) {
+      String name = pomElementName(reader);
+      if (!readArtifactElement(reader, name, dependency)) {
+        switch (name) {
+          case "scope":
+            dependency.setScope(readScope(reader));
+            break;
+          case "classifier":
+            dependency.setClassifier(readText(reader));
+            break;
+          case "type":
+            dependency.setType(readText(reader));
+            break;
+          case "exclusions":
+            dependency.setExclusions(readExclusions(reader));
+            break;
+          default:
+            skipElement(reader);
+        }
+      }
+    }
+    return dependency;
+  }
+
+  private static List<ArtifactModel> readExclusions(XMLStreamReader reader) throws XMLStreamException {
+    List<ArtifactModel> exclusions = new ArrayList<>();
+    while (nextChild(reader)) {
+      if ("exclusion".equals(pomElementName(reader))) {
+        ArtifactModel exclusion = new ArtifactModel();
+        while (nextChild(reader)) {
+          if (!readArtifactElement(reader, pomElementName(reader), exclusion)) {
+            skipElement(reader);
+          }
+        }
+        exclusions.add(exclusion);
+      } else {
+        skipElement(reader);
+      }
+    }
+    return exclusions;
+  }
+
+  private static BuildModel readBuild(XMLStreamReader reader) throws XMLStreamException {
+    PluginManagementModel pluginManagement = null;
+    PluginsModel plugins = null;
+    while (nextChild(reader)) {
+      switch (pomElementName(reader)) {
+        case "pluginManagement":
+          PluginsModel managedPlugins = null;
+          while (nextChild(reader)) {
+            if ("plugins".equals(pomElementName(reader))) {
+              managedPlugins = readPlugins(reader);
+            } else {
+              skipElement(reader);
+            }
+          }
+          pluginManagement = new PluginManagementModel(managedPlugins);
+          break;
+        case "plugins":
+          plugins = readPlugins(reader);
+          break;
+        default:
+          skipElement(reader);
+      }
+    }
+    return new BuildModel(pluginManagement, plugins);
+  }
+
+  private static PluginsModel readPlugins(XMLStreamReader reader) throws XMLStreamException {
+    List<PluginModel> plugins = new ArrayList<>();
+    while (nextChild(reader)) {
+      if ("plugin".equals(pomElementName(reader))) {
+        plugins.add(readPlugin(reader));
+      } else {
+        skipElement(reader);
+      }
+    }
+    return plugins.isEmpty() ? new PluginsModel() : new PluginsModel(plugins);
+  }
+
+  private static PluginModel readPlugin(XMLStreamReader reader) throws XMLStreamException {
+    PluginModel plugin = new PluginModel();
+    while (nextChild(reader)) {
+      String name = pomElementName(reader);
+      if (!readArtifactElement(reader, name, plugin)) {
+        switch (name) {
+          case "configuration":
+            plugin.setConfigurationSize(countChildren(reader));
+            break;
+          case "dependencies":
+            plugin.setDependencies(readDependencies(reader));
+            break;
+          default:
+            skipElement(reader);
+        }
+      }
+    }
+    return plugin;
+  }
+
+  private static boolean readArtifactElement(XMLStreamReader reader, String name, ArtifactModel artifact) throws XMLStreamException {
+    switch (name) {
+      case "groupId":
+        artifact.setGroupId(readText(reader));
+        return true;
+      case "artifactId":
+        artifact.setArtifactId(readText(reader));
+        return true;
+      case "version":
+        artifact.setVersion(readText(reader));
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Unknown scopes are ignored like by the {@link DependencyScopeAdapter}, whose exceptions are reported as
+   * validation events and therefore ignored by JAXB.
+   */
+  private static DependencyScope readScope(XMLStreamReader reader) throws XMLStreamException {
+    String scope = readText(reader);
+    try {
+      return DependencyScope.getByScopeName(scope);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Moves the reader to the next child element of the current element.
+   *
+   * @return <code>true</code> if the reader is on the start of a child element, <code>false</code> if it is on the end
+   * of the current element.
+   */
+  private static boolean nextChild(XMLStreamReader reader) throws XMLStreamException {
+    while (reader.hasNext()) {
+      switch (reader.next()) {
+        case XMLStreamConstants.START_ELEMENT:
+          return true;
+        case XMLStreamConstants.END_ELEMENT:
+          return false;
+        default:
+          // Text, comments and processing instructions between elements are not part of the model.
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the local name of the current element if it is in the POM namespace or an empty string otherwise.
+   */
+  private static String pomElementName(XMLStreamReader reader) {
+    return POM_NAMESPACE.equals(reader.getNamespaceURI()) ? reader.getLocalName() : "";
+  }
+
+  /**
+   * Reads the text content of the current element. Nested elements are skipped.
+   */
+  private static String readText(XMLStreamReader reader) throws XMLStreamException {
+    StringBuilder text = new StringBuilder();
+    while (reader.hasNext()) {
+      switch (reader.next()) {
+        case XMLStreamConstants.CHARACTERS:
+        case XMLStreamConstants.CDATA:
+        case XMLStreamConstants.SPACE:
+          text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+          break;
+        case XMLStreamConstants.START_ELEMENT:
+          skipElement(reader);
+          break;
+        case XMLStreamConstants.END_ELEMENT:
+          return text.toString();
+        default:
+          // Comments and processing instructions are not part of the text content.
+      }
+    }
+    return text.toString();
+  }
+
+  private static int countChildren(XMLStreamReader reader) throws XMLStreamException {
+    int count = 0;
+    while (nextChild(reader)) {
+      count++;
+      skipElement(reader);
+    }
+    return count;
+  }
+
+  private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+    int depth = 1;
+    while (depth > 0 && reader.hasNext()) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        depth++;
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        depth--;
+      }
+    }
+  }
+}
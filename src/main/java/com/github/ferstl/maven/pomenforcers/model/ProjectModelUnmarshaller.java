@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.model;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.transform.Source;
+
+/**
+ * Unmarshals {@link ProjectModel}s. The {@link JAXBContext} of the model classes is created once, when the first POM
+ * is unmarshalled. Unmarshallers are not thread-safe, so they are kept in a bounded pool and reused by subsequent
+ * unmarshalling operations. Concurrent operations exceeding the pool's capacity create additional unmarshallers,
+ * which are discarded afterwards.
+ */
+public final class ProjectModelUnmarshaller {
+
+  private static final BlockingQueue<Unmarshaller> POOL = new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
+  private ProjectModelUnmarshaller() {
+    throw new AssertionError("Not instantiable");
+  }
+
+  public static ProjectModel unmarshal(Source source) {
+    Unmarshaller unmarshaller = POOL.poll();
+    try {
+      if (unmarshaller == null) {
+        unmarshaller = ContextHolder.CONTEXT.createUnmarshaller();
+      }
+
+      ProjectModel projectModel = unmarshaller.unmarshal(source, ProjectModel.class).getValue();
+      POOL.offer(unmarshaller);
+      return projectModel;
+    } catch (JAXBException e) {
+      throw new IllegalStateException("Unable to unmarshal " + source.getSystemId(), e);
+    }
+  }
+
+  /**
+   * Initialization-on-demand holder for the JAXB context.
+   */
+  private static final class ContextHolder {
+
+    static final JAXBContext CONTEXT = createContext();
+
+    private static JAXBContext createContext() {
+      try {
+        return JAXBContext.newInstance(ProjectModel.class);
+      } catch (JAXBException e) {
+        throw new IllegalStateException("Unable to create JAXB context for the project model", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import javax.xml.bind.annotation.XmlAnyElement;
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * Unmarshals the <code>&lt;properties&gt;</code> section of a POM into a map of property names and their trimmed
+ * values. The order of the properties is kept.
+ */
+class PropertiesAdapter extends XmlAdapter<PropertiesAdapter.PropertiesModel, Map<String, String>> {
+
+  private static final String POM_NAMESPACE = "http://maven.apache.org/POM/4.0.0";
+
+  @Override
+  public Map<String, String> unmarshal(PropertiesModel v) {
+    Map<String, String> properties = new LinkedHashMap<>();
+    if (v.properties != null) {
+      for (Element property : v.properties) {
+        String name = property.getLocalName() != null ? property.getLocalName() : property.getNodeName();
+        properties.put(name, property.getTextContent().trim());
+      }
+    }
+    return properties;
+  }
+
+  @Override
+  public PropertiesModel marshal(Map<String, String> v) throws ParserConfigurationException {
+    Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+    PropertiesModel propertiesModel = new PropertiesModel();
+    for (Entry<String, String> property : v.entrySet()) {
+      Element element = document.createElementNS(POM_NAMESPACE, property.getKey());
+      element.setTextContent(property.getValue());
+      propertiesModel.properties.add(element);
+    }
+    return propertiesModel;
+  }
+
+  static class PropertiesModel {
+
+    @XmlAnyElement
+    List<Element> properties = new ArrayList<>();
+  }
+}
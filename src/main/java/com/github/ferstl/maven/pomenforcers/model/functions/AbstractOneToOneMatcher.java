@@ -17,10 +17,14 @@ package com.github.ferstl.maven.pomenforcers.model.functions;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.maven.enforcer.rule.api.EnforcerRuleHelper;
 
+import com.github.ferstl.maven.pomenforcers.util.EnforcerEvents;
+import com.github.ferstl.maven.pomenforcers.util.ExecutionCounters;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.ImmutableBiMap;
 import com.google.common.collect.ImmutableBiMap.Builder;
@@ -35,23 +39,33 @@ public abstract class AbstractOneToOneMatcher<U, V> {
   }
 
   public final BiMap<V, V> match(Collection<U> superset, Collection<V> subset) {
+    EnforcerEvents.Scope event = EnforcerEvents.matching(getClass().getSimpleName(), superset.size(), subset.size());
+    try {
+      return matchItems(superset, subset);
+    } finally {
+      event.close();
+    }
+  }
+
+  private BiMap<V, V> matchItems(Collection<U> superset, Collection<V> subset) {
     Builder<V, V> mapBuilder = ImmutableBiMap.builder();
 
     // Transform the superset here in order not to do it in each nested loop
     Collection<V> transformedSuperset = transformSuperset(superset);
+    Map<Object, V> supersetIndex = createSupersetIndex(transformedSuperset);
 
     for (V subsetItem : subset) {
-      boolean itemMatched = false;
-
-      for (V supersetItem : transformedSuperset) {
-        if (matches(supersetItem, subsetItem)) {
-          itemMatched = true;
-          mapBuilder.put(supersetItem, subsetItem);
-          break;
-        }
+      V matchingItem;
+      if (supersetIndex != null) {
+        ExecutionCounters.countComparison();
+        matchingItem = supersetIndex.get(subsetKey(subsetItem));
+      } else {
+        matchingItem = findMatchingItem(transformedSuperset, subsetItem);
       }
 
-      if (!itemMatched) {
+      if (matchingItem != null) {
+        mapBuilder.put(matchingItem, subsetItem);
+      } else {
         handleUnmatchedItem(mapBuilder, subsetItem);
       }
     }
@@ -67,10 +81,58 @@ public abstract class AbstractOneToOneMatcher<U, V> {
 
   protected abstract boolean matches(V supersetItem, V subsetItem);
 
+  /**
+   * Returns the identity of the given superset item. Matchers that define keys for superset and subset items are
+   * resolved by a hash lookup instead of comparing each subset item with the whole superset. The keys must be
+   * consistent with {@link #matches(Object, Object)}, i.e. two items match if and only if their keys are equal.
+   *
+   * @param supersetItem The superset item.
+   * @return The key of the superset item or <code>null</code> if this matcher does not define keys.
+   */
+  protected Object supersetKey(V supersetItem) {
+    return null;
+  }
+
+  /**
+   * Returns the identity of the given subset item. See {@link #supersetKey(Object)}. This method is only called if
+   * all superset items have a key. By default, subset items have the same key as superset items.
+   *
+   * @param subsetItem The subset item.
+   * @return The key of the subset item.
+   */
+  protected Object subsetKey(V subsetItem) {
+    return supersetKey(subsetItem);
+  }
+
   EnforcerRuleHelper getHelper() {
     return this.helper;
   }
 
+  private Map<Object, V> createSupersetIndex(Collection<V> transformedSuperset) {
+    Map<Object, V> index = new HashMap<>();
+    for (V supersetItem : transformedSuperset) {
+      Object key = supersetKey(supersetItem);
+      if (key == null) {
+        return null;
+      }
+      // Keep the first matching item like the linear search
+      index.putIfAbsent(key, supersetItem);
+    }
+
+    return index;
+  }
+
+  private V findMatchingItem(Collection<V> transformedSuperset, V subsetItem) {
+    for (V supersetItem : transformedSuperset) {
+      ExecutionCounters.countComparison();
+      if (matches(supersetItem, subsetItem)) {
+        return supersetItem;
+      }
+    }
+
+    return null;
+  }
+
   private Collection<V> transformSuperset(Collection<U> superset) {
     List<V> transformed = new ArrayList<>(superset.size());
     for (U supersetItem : superset) {
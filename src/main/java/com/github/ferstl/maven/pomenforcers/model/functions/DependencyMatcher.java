@@ -17,7 +17,7 @@ package com.github.ferstl.maven.pomenforcers.model.functions;
 
 import static com.github.ferstl.maven.pomenforcers.util.EnforcerRuleUtils.evaluateProperties;
 
-import java.util.Objects;
+import java.util.Arrays;
 
 import org.apache.maven.enforcer.rule.api.EnforcerRuleHelper;
 import org.apache.maven.model.Dependency;
@@ -48,15 +48,25 @@ public class DependencyMatcher extends AbstractOneToOneMatcher<Dependency, Depen
 
   @Override
   protected boolean matches(DependencyModel supersetItem, DependencyModel subsetItem) {
-    String groupId = evaluateProperties(subsetItem.getGroupId(), getHelper());
-    String artifactId = evaluateProperties(subsetItem.getArtifactId(), getHelper());
-    String classifier = evaluateProperties(subsetItem.getClassifier(), getHelper());
-    String type = evaluateProperties(subsetItem.getType(), getHelper());
+    return supersetKey(supersetItem).equals(subsetKey(subsetItem));
+  }
+
+  @Override
+  protected Object supersetKey(DependencyModel supersetItem) {
+    return Arrays.asList(
+        supersetItem.getGroupId(),
+        supersetItem.getArtifactId(),
+        supersetItem.getClassifier(),
+        supersetItem.getType());
+  }
 
-    return Objects.equals(supersetItem.getGroupId(), groupId)
-        && Objects.equals(supersetItem.getArtifactId(), artifactId)
-        && Objects.equals(supersetItem.getClassifier(), classifier)
-        && Objects.equals(supersetItem.getType(), type);
+  @Override
+  protected Object subsetKey(DependencyModel subsetItem) {
+    return Arrays.asList(
+        evaluateProperties(subsetItem.getGroupId(), getHelper()),
+        evaluateProperties(subsetItem.getArtifactId(), getHelper()),
+        evaluateProperties(subsetItem.getClassifier(), getHelper()),
+        evaluateProperties(subsetItem.getType(), getHelper()));
   }
 
   @Override
@@ -15,7 +15,7 @@
  */
 package com.github.ferstl.maven.pomenforcers.model.functions;
 
-import java.util.Objects;
+import java.util.Arrays;
 import org.apache.maven.enforcer.rule.api.EnforcerRuleHelper;
 import org.apache.maven.model.Plugin;
 import com.github.ferstl.maven.pomenforcers.model.PluginModel;
@@ -40,11 +40,17 @@ public class PluginMatcher extends AbstractOneToOneMatcher<Plugin, PluginModel>
 
   @Override
   protected boolean matches(PluginModel supersetItem, PluginModel subsetItem) {
-    String groupId = getGroupId(subsetItem);
-    String artifactId = evaluateProperties(subsetItem.getArtifactId(), getHelper());
+    return supersetKey(supersetItem).equals(subsetKey(subsetItem));
+  }
 
-    return Objects.equals(supersetItem.getGroupId(), groupId)
-        && Objects.equals(supersetItem.getArtifactId(), artifactId);
+  @Override
+  protected Object supersetKey(PluginModel supersetItem) {
+    return Arrays.asList(supersetItem.getGroupId(), supersetItem.getArtifactId());
+  }
+
+  @Override
+  protected Object subsetKey(PluginModel subsetItem) {
+    return Arrays.asList(getGroupId(subsetItem), evaluateProperties(subsetItem.getArtifactId(), getHelper()));
   }
 
   private String getGroupId(PluginModel plugin) {
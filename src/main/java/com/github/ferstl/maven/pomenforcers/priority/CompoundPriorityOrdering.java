@@ -17,9 +17,10 @@ package com.github.ferstl.maven.pomenforcers.priority;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Lists;
@@ -28,6 +29,9 @@ import com.google.common.collect.Ordering;
 import com.google.common.collect.Sets;
 
 /**
+ * Compound ordering of several {@link PriorityOrdering}s. Sorting and order checks extract the sort key of each element
+ * only once, i.e. the ranks and the transformed values of all priority orderings, and then compare the sort keys.
+ *
  * @param <T> Type of this ordering.
  * @param <P> Type of the priorities.
  * @param <F> Type of the {@link PriorityOrderingFactory}.
@@ -37,6 +41,12 @@ public class CompoundPriorityOrdering<T, P extends Comparable<P>, F extends Prio
   private final Set<F> orderBy;
   private final Multimap<F, P> priorityMap;
 
+  /**
+   * The priority orderings created from {@link #orderBy} and {@link #priorityMap}. They are created on first use and
+   * discarded when the order or the priorities change.
+   */
+  private List<PriorityOrdering<P, T>> orderings;
+
   public static <T, P extends Comparable<P>, F extends PriorityOrderingFactory<P, T>> CompoundPriorityOrdering<T, P, F> orderBy(Iterable<F> artifactElements) {
     if (Iterables.isEmpty(artifactElements)) {
       throw new IllegalArgumentException("No order specified.");
@@ -58,26 +68,122 @@ public class CompoundPriorityOrdering<T, P extends Comparable<P>, F extends Prio
   public void redefineOrderBy(Iterable<F> artifactElements) {
     this.orderBy.clear();
     this.orderBy.addAll(Lists.newArrayList(artifactElements));
+    this.orderings = null;
   }
 
   public void setPriorities(F artifactElement, Iterable<P> priorities) {
     this.priorityMap.removeAll(artifactElement);
     this.priorityMap.putAll(artifactElement, priorities);
+    this.orderings = null;
   }
 
   @Override
   public int compare(T left, T right) {
-    return createOrdering().compare(left, right);
+    for (PriorityOrdering<P, T> ordering : getOrderings()) {
+      int result = ordering.compare(left, right);
+      if (result != 0) {
+        return result;
+      }
+    }
+
+    return 0;
+  }
+
+  @Override
+  public boolean isOrdered(Iterable<? extends T> iterable) {
+    Iterator<? extends T> iterator = iterable.iterator();
+    if (iterator.hasNext()) {
+      List<PriorityOrdering<P, T>> orderings = getOrderings();
+      SortKey<T, P> previous = new SortKey<>(iterator.next(), orderings);
+      while (iterator.hasNext()) {
+        SortKey<T, P> next = new SortKey<>(iterator.next(), orderings);
+        if (previous.compareTo(next) > 0) {
+          return false;
+        }
+        previous = next;
+      }
+    }
+
+    return true;
   }
 
-  private Ordering<T> createOrdering() {
-    List<Comparator<T>> comparators = new ArrayList<>(this.orderBy.size());
-    for (F artifactElement : this.orderBy) {
-      Comparator<T> comparator =
-          artifactElement.createPriorityOrdering(this.priorityMap.get(artifactElement));
-      comparators.add(comparator);
+  @Override
+  public <E extends T> List<E> sortedCopy(Iterable<E> elements) {
+    List<PriorityOrdering<P, T>> orderings = getOrderings();
+    List<SortKey<E, P>> sortKeys = new ArrayList<>();
+    for (E element : elements) {
+      sortKeys.add(new SortKey<>(element, orderings));
+    }
+
+    // List.sort() is stable like Ordering.sortedCopy()
+    sortKeys.sort(null);
+    List<E> result = new ArrayList<>(sortKeys.size());
+    for (SortKey<E, P> sortKey : sortKeys) {
+      result.add(sortKey.element);
     }
 
-    return Ordering.compound(comparators);
+    return result;
+  }
+
+  @Override
+  public <E extends T> ImmutableList<E> immutableSortedCopy(Iterable<E> elements) {
+    return ImmutableList.copyOf(sortedCopy(elements));
+  }
+
+  @Override
+  public String toString() {
+    return "CompoundPriorityOrdering[orderBy=" + this.orderBy + ", priorities=" + this.priorityMap + "]";
+  }
+
+  private List<PriorityOrdering<P, T>> getOrderings() {
+    List<PriorityOrdering<P, T>> orderings = this.orderings;
+    if (orderings == null) {
+      orderings = new ArrayList<>(this.orderBy.size());
+      for (F artifactElement : this.orderBy) {
+        orderings.add(artifactElement.createPriorityOrdering(this.priorityMap.get(artifactElement)));
+      }
+      this.orderings = orderings;
+    }
+
+    return orderings;
+  }
+
+  /**
+   * Sort key of an element. It contains the rank and the transformed value of the element for each priority ordering.
+   * Comparing two sort keys gives the same result as {@link CompoundPriorityOrdering#compare(Object, Object)}.
+   */
+  private static final class SortKey<E, P extends Comparable<P>> implements Comparable<SortKey<E, P>> {
+
+    private final E element;
+    private final int[] ranks;
+    private final List<P> values;
+
+    SortKey(E element, List<? extends PriorityOrdering<P, ? super E>> orderings) {
+      this.element = element;
+      this.ranks = new int[orderings.size()];
+      this.values = new ArrayList<>(orderings.size());
+      for (int i = 0; i < this.ranks.length; i++) {
+        PriorityOrdering<P, ? super E> ordering = orderings.get(i);
+        P value = ordering.transform(element);
+        this.ranks[i] = ordering.rank(value);
+        this.values.add(value);
+      }
+    }
+
+    @Override
+    public int compareTo(SortKey<E, P> other) {
+      for (int i = 0; i < this.ranks.length; i++) {
+        if (this.ranks[i] != other.ranks[i]) {
+          return this.ranks[i] - other.ranks[i];
+        }
+
+        int result = this.values.get(i).compareTo(other.values.get(i));
+        if (result != 0) {
+          return result;
+        }
+      }
+
+      return 0;
+    }
   }
 }
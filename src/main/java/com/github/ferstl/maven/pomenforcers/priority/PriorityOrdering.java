@@ -40,11 +40,6 @@ public class PriorityOrdering<P extends Comparable<? super P>, T> extends Orderi
    */
   private final Collection<P> priorityCollection;
 
-  /**
-   * Matches the values to be compared with the items in the priority collection.
-   */
-  private final Equivalence<? super P> priorityMatcher;
-
   /**
    * Transforms the type of the objects to be compared into the type of the priority collection. Use
    * {@link Function#identity()} if the type of the priority collection and the type of the objects to be
@@ -52,11 +47,15 @@ public class PriorityOrdering<P extends Comparable<? super P>, T> extends Orderi
    */
   private final Function<T, P> transformer;
 
+  /**
+   * Matches the values to be compared with the items in the priority collection.
+   */
+  private final RankIndex<P> rankIndex;
 
   public PriorityOrdering(Collection<P> prioritizedItems, Function<T, P> transformer, Equivalence<? super P> priorityMatcher) {
     this.priorityCollection = prioritizedItems;
-    this.priorityMatcher = priorityMatcher;
     this.transformer = transformer;
+    this.rankIndex = RankIndex.create(prioritizedItems, priorityMatcher);
   }
 
   public PriorityOrdering(Collection<P> priorityCollection, Function<T, P> transformer) {
@@ -65,8 +64,8 @@ public class PriorityOrdering<P extends Comparable<? super P>, T> extends Orderi
 
   @Override
   public int compare(T object1, T object2) {
-    P comparable1 = this.transformer.apply(object1);
-    P comparable2 = this.transformer.apply(object2);
+    P comparable1 = transform(object1);
+    P comparable2 = transform(object2);
 
     int rank1 = this.rank(comparable1);
     int rank2 = this.rank(comparable2);
@@ -79,6 +78,21 @@ public class PriorityOrdering<P extends Comparable<? super P>, T> extends Orderi
 
   }
 
+  @Override
+  public String toString() {
+    return "PriorityOrdering" + this.priorityCollection;
+  }
+
+  /**
+   * Transforms the given object into the type of the priority collection.
+   *
+   * @param object The object to transform.
+   * @return The transformed object.
+   */
+  P transform(T object) {
+    return this.transformer.apply(object);
+  }
+
   /**
    * Determine the priority of the given item by matching it against the priority collection.
    * The lower the rank, the higher the priority.
@@ -87,16 +101,8 @@ public class PriorityOrdering<P extends Comparable<? super P>, T> extends Orderi
    * @return The priority of the given item or {@link Integer#MAX_VALUE} if the given item does not
    * match any element of the priority collection.
    */
-  private int rank(P item) {
-    int i = 0;
-    for (P prioritizedItem : this.priorityCollection) {
-      if (this.priorityMatcher.equivalent(item, prioritizedItem)) {
-        return i;
-      }
-      i++;
-    }
-
-    return Integer.MAX_VALUE;
+  int rank(P item) {
+    return this.rankIndex.rank(item);
   }
 
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.priority;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import com.github.ferstl.maven.pomenforcers.model.functions.StringStartsWithEquivalence;
+import com.google.common.base.Equivalence;
+
+/**
+ * Determines the rank of an item within a priority collection, i.e. the index of the first item in the priority
+ * collection that matches the given item. Exact matches are looked up in a hash index and prefix matches (see
+ * {@link StringStartsWithEquivalence}) in a prefix tree. Other equivalences fall back to a linear search.
+ *
+ * @param <P> Type of the priority collection.
+ */
+abstract class RankIndex<P> {
+
+  static final int NO_RANK = Integer.MAX_VALUE;
+
+  @SuppressWarnings("unchecked")
+  static <P> RankIndex<P> create(Collection<P> priorityCollection, Equivalence<? super P> priorityMatcher) {
+    if (priorityMatcher.equals(Equivalence.equals())) {
+      return new HashRankIndex<>(priorityCollection);
+    } else if (priorityMatcher instanceof StringStartsWithEquivalence) {
+      return (RankIndex<P>) new PrefixRankIndex((Collection<String>) priorityCollection);
+    }
+
+    return new LinearRankIndex<>(priorityCollection, priorityMatcher);
+  }
+
+  /**
+   * Determine the rank of the given item. The lower the rank, the higher the priority.
+   *
+   * @param item The item to rank.
+   * @return The rank of the given item or {@link #NO_RANK} if the given item does not match any element of the
+   * priority collection.
+   */
+  abstract int rank(P item);
+
+  private static final class HashRankIndex<P> extends RankIndex<P> {
+
+    private final Map<P, Integer> ranks;
+
+    HashRankIndex(Collection<P> priorityCollection) {
+      this.ranks = new HashMap<>();
+      int i = 0;
+      for (P prioritizedItem : priorityCollection) {
+        this.ranks.putIfAbsent(prioritizedItem, i++);
+      }
+    }
+
+    @Override
+    int rank(P item) {
+      return this.ranks.getOrDefault(item, NO_RANK);
+    }
+  }
+
+  /**
+   * Prefix tree of the priority collection. Each node holds the lowest rank of all prioritized items that end in this
+   * node. The rank of an item is the lowest rank along its path, so it is the same as the rank of the first prioritized
+   * item the given item starts with.
+   */
+  private static final class PrefixRankIndex extends RankIndex<String> {
+
+    private final Node root;
+
+    PrefixRankIndex(Collection<String> priorityCollection) {
+      this.root = new Node();
+      int i = 0;
+      for (String prioritizedItem : priorityCollection) {
+        if (prioritizedItem != null) {
+          Node node = this.root;
+          for (int j = 0; j < prioritizedItem.length(); j++) {
+            node = node.children.computeIfAbsent(prioritizedItem.charAt(j), c -> new Node());
+          }
+          node.rank = Math.min(node.rank, i);
+        }
+        i++;
+      }
+    }
+
+    @Override
+    int rank(String item) {
+      if (item == null) {
+        return NO_RANK;
+      }
+
+      Node node = this.root;
+      int rank = node.rank;
+      for (int i = 0; i < item.length(); i++) {
+        node = node.children.get(item.charAt(i));
+        if (node == null) {
+          break;
+        }
+        rank = Math.min(rank, node.rank);
+      }
+
+      return rank;
+    }
+
+    private static final class Node {
+
+      private final Map<Character, Node> children = new HashMap<>();
+      private int rank = NO_RANK;
+    }
+  }
+
+  private static final class LinearRankIndex<P> extends RankIndex<P> {
+
+    private final Collection<P> priorityCollection;
+    private final Equivalence<? super P> priorityMatcher;
+
+    LinearRankIndex(Collection<P> priorityCollection, Equivalence<? super P> priorityMatcher) {
+      this.priorityCollection = priorityCollection;
+      this.priorityMatcher = priorityMatcher;
+    }
+
+    @Override
+    int rank(P item) {
+      int i = 0;
+      for (P prioritizedItem : this.priorityCollection) {
+        if (this.priorityMatcher.equivalent(item, prioritizedItem)) {
+          return i;
+        }
+        i++;
+      }
+
+      return NO_RANK;
+    }
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.util;
+
+/**
+ * Emits Java Flight Recorder events for the execution of the pedantic enforcer rules. The events carry the module
+ * and the rule of the enforcer execution on the current thread. On JVMs without Flight Recorder, the events are not
+ * created at all.
+ */
+public final class EnforcerEvents {
+
+  private static final boolean JFR_AVAILABLE = isJfrAvailable();
+  private static final Scope NO_SCOPE = () -> { };
+
+  // Module and rule of the enforcer execution on the current thread
+  private static final ThreadLocal<String[]> CONTEXT = new ThreadLocal<>();
+
+  /**
+   * Scope of an event. The event is committed when the scope is closed. Close the scope in a <code>finally</code>
+   * block, since a try-with-resources statement whose resource is not referenced causes a <code>[try]</code> lint
+   * warning.
+   */
+  public interface Scope extends AutoCloseable {
+
+    @Override
+    void close();
+  }
+
+  /**
+   * Starts the execution of an enforcer rule on the current thread.
+   *
+   * @param module <code>groupId:artifactId</code> of the module.
+   * @param rule Name of the rule.
+   * @return The scope of the rule execution.
+   */
+  public static Scope ruleExecution(String module, String rule) {
+    String[] previousContext = CONTEXT.get();
+    CONTEXT.set(new String[]{module, rule});
+    Scope event = JFR_AVAILABLE ? JfrEvents.ruleExecution(module, rule) : NO_SCOPE;
+
+    return () -> {
+      event.close();
+      if (previousContext != null) {
+        CONTEXT.set(previousContext);
+      } else {
+        CONTEXT.remove();
+      }
+    };
+  }
+
+  /**
+   * Returns the module of the enforcer execution on the current thread.
+   *
+   * @return The module or <code>null</code> if there is no enforcer execution.
+   */
+  public static String getCurrentModule() {
+    String[] context = CONTEXT.get();
+    return context != null ? context[0] : null;
+  }
+
+  public static Scope xmlParsing(String systemId) {
+    return JFR_AVAILABLE ? JfrEvents.xmlParsing(getCurrentModule(), getCurrentRule(), systemId) : NO_SCOPE;
+  }
+
+  public static Scope modelReading(String systemId, String reader) {
+    return JFR_AVAILABLE ? JfrEvents.modelReading(getCurrentModule(), getCurrentRule(), systemId, reader) : NO_SCOPE;
+  }
+
+  public static Scope matching(String matcher, int supersetSize, int subsetSize) {
+    return JFR_AVAILABLE ? JfrEvents.matching(getCurrentModule(), getCurrentRule(), matcher, supersetSize, subsetSize) : NO_SCOPE;
+  }
+
+  public static Scope diff(int actualSize, int requiredSize) {
+    return JFR_AVAILABLE ? JfrEvents.diff(getCurrentModule(), getCurrentRule(), actualSize, requiredSize) : NO_SCOPE;
+  }
+
+  private static String getCurrentRule() {
+    String[] context = CONTEXT.get();
+    return context != null ? context[1] : null;
+  }
+
+  private static boolean isJfrAvailable() {
+    try {
+      Class.forName("jdk.jfr.Event", false, EnforcerEvents.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+
+  private EnforcerEvents() {
+  }
+}
@@ -15,17 +15,28 @@
  */
 package com.github.ferstl.maven.pomenforcers.util;
 
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.apache.maven.enforcer.rule.api.EnforcerRuleHelper;
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluationException;
 import com.google.common.base.Strings;
+import com.google.common.collect.MapMaker;
 
 public final class EnforcerRuleUtils {
 
   private static final Pattern PROPERTY_PATTERN = Pattern.compile("\\$\\{.*?}");
 
+  /**
+   * Evaluated properties per enforcer rule helper. The helper is created for each execution of the
+   * maven-enforcer-plugin in a Maven module and shared by all rules of that execution. Since properties like
+   * <code>${project.groupId}</code> depend on the module, the helper is the widest scope in which the values of the
+   * properties don't change.
+   */
+  private static final ConcurrentMap<EnforcerRuleHelper, ConcurrentMap<String, String>> PROPERTY_CACHES = new MapMaker().weakKeys().makeMap();
+
   public static MavenProject getMavenProject(EnforcerRuleHelper helper) {
     try {
       return (MavenProject) helper.evaluate("${project}");
@@ -34,13 +45,22 @@ public final class EnforcerRuleUtils {
     }
   }
 
+  public static MavenSession getMavenSession(EnforcerRuleHelper helper) {
+    try {
+      return (MavenSession) helper.evaluate("${session}");
+    } catch (ExpressionEvaluationException e) {
+      throw new IllegalStateException("Unable to get maven session", e);
+    }
+  }
+
   public static String evaluateProperties(String input, EnforcerRuleHelper helper) {
-    if (!Strings.isNullOrEmpty(input)) {
+    if (!Strings.isNullOrEmpty(input) && input.contains("${")) {
+      ConcurrentMap<String, String> propertyCache = PROPERTY_CACHES.computeIfAbsent(helper, h -> new MapMaker().makeMap());
       Matcher matcher = PROPERTY_PATTERN.matcher(input);
       StringBuffer substituted = new StringBuffer();
       while (matcher.find()) {
         String property = matcher.group();
-        matcher.appendReplacement(substituted, evaluateStringProperty(property, helper));
+        matcher.appendReplacement(substituted, propertyCache.computeIfAbsent(property, p -> evaluateStringProperty(p, helper)));
       }
       matcher.appendTail(substituted);
       return substituted.toString();
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.util;
+
+/**
+ * Counts the work done by the enforcer rule that is currently executed on this thread. Counting is only active
+ * between {@link #start()} and {@link #stop()}. Otherwise, the counting methods do nothing.
+ */
+public final class ExecutionCounters {
+
+  private static final ThreadLocal<ExecutionCounters> CURRENT = new ThreadLocal<>();
+
+  private long elements;
+  private long comparisons;
+
+  /**
+   * Starts counting on the current thread.
+   *
+   * @return The counters of the current thread.
+   */
+  public static ExecutionCounters start() {
+    ExecutionCounters counters = new ExecutionCounters();
+    CURRENT.set(counters);
+
+    return counters;
+  }
+
+  /**
+   * Stops counting on the current thread.
+   */
+  public static void stop() {
+    CURRENT.remove();
+  }
+
+  /**
+   * Counts a processed POM element.
+   */
+  public static void countElement() {
+    ExecutionCounters counters = CURRENT.get();
+    if (counters != null) {
+      counters.elements++;
+    }
+  }
+
+  /**
+   * Counts a comparison of two artifacts in a matcher.
+   */
+  public static void countComparison() {
+    ExecutionCounters counters = CURRENT.get();
+    if (counters != null) {
+      counters.comparisons++;
+    }
+  }
+
+  public long getElements() {
+    return this.elements;
+  }
+
+  public long getComparisons() {
+    return this.comparisons;
+  }
+
+  private ExecutionCounters() {
+  }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder events of the pedantic enforcer rules. This class must only be loaded if Flight Recorder is
+ * available. Use {@link EnforcerEvents} instead.
+ */
+final class JfrEvents {
+
+  private static final String CATEGORY_MAVEN = "Maven";
+  private static final String CATEGORY_ENFORCERS = "Pedantic POM Enforcers";
+
+  static EnforcerEvents.Scope ruleExecution(String module, String rule) {
+    RuleExecutionEvent event = new RuleExecutionEvent();
+    event.begin();
+    return () -> {
+      event.end();
+      if (event.shouldCommit()) {
+        event.module = module;
+        event.rule = rule;
+        event.commit();
+      }
+    };
+  }
+
+  static EnforcerEvents.Scope xmlParsing(String module, String rule, String systemId) {
+    XmlParsingEvent event = new XmlParsingEvent();
+    event.begin();
+    return () -> {
+      event.end();
+      if (event.shouldCommit()) {
+        event.module = module;
+        event.rule = rule;
+        event.systemId = systemId;
+        event.commit();
+      }
+    };
+  }
+
+  static EnforcerEvents.Scope modelReading(String module, String rule, String systemId, String reader) {
+    ModelReadingEvent event = new ModelReadingEvent();
+    event.begin();
+    return () -> {
+      event.end();
+      if (event.shouldCommit()) {
+        event.module = module;
+        event.rule = rule;
+        event.systemId = systemId;
+        event.reader = reader;
+        event.commit();
+      }
+    };
+  }
+
+  static EnforcerEvents.Scope matching(String module, String rule, String matcher, int supersetSize, int subsetSize) {
+    MatchingEvent event = new MatchingEvent();
+    event.begin();
+    return () -> {
+      event.end();
+      if (event.shouldCommit()) {
+        event.module = module;
+        event.rule = rule;
+        event.matcher = matcher;
+        event.supersetSize = supersetSize;
+        event.subsetSize = subsetSize;
+        event.commit();
+      }
+    };
+  }
+
+  static EnforcerEvents.Scope diff(String module, String rule, int actualSize, int requiredSize) {
+    DiffEvent event = new DiffEvent();
+    event.begin();
+    return () -> {
+      event.end();
+      if (event.shouldCommit()) {
+        event.module = module;
+        event.rule = rule;
+        event.actualSize = actualSize;
+        event.requiredSize = requiredSize;
+        event.commit();
+      }
+    };
+  }
+
+  @Name("com.github.ferstl.pomenforcers.RuleExecution")
+  @Label("Pedantic Rule Execution")
+  @Description("Execution of a pedantic enforcer rule on a module")
+  @Category({CATEGORY_MAVEN, CATEGORY_ENFORCERS})
+  @StackTrace(false)
+  static final class RuleExecutionEvent extends Event {
+
+    @Label("Module")
+    String module;
+
+    @Label("Rule")
+    String rule;
+  }
+
+  @Name("com.github.ferstl.pomenforcers.XmlParsing")
+  @Label("POM Parsing")
+  @Description("Parsing of a POM file into a DOM document")
+  @Category({CATEGORY_MAVEN, CATEGORY_ENFORCERS})
+  @StackTrace(false)
+  static final class XmlParsingEvent extends Event {
+
+    @Label("Module")
+    String module;
+
+    @Label("Rule")
+    String rule;
+
+    @Label("System ID")
+    String systemId;
+  }
+
+  @Name("com.github.ferstl.pomenforcers.ModelReading")
+  @Label("POM Model Reading")
+  @Description("Reading of a POM document into the project model")
+  @Category({CATEGORY_MAVEN, CATEGORY_ENFORCERS})
+  @StackTrace(false)
+  static final class ModelReadingEvent extends Event {
+
+    @Label("Module")
+    String module;
+
+    @Label("Rule")
+    String rule;
+
+    @Label("System ID")
+    String systemId;
+
+    @Label("Reader")
+    String reader;
+  }
+
+  @Name("com.github.ferstl.pomenforcers.Matching")
+  @Label("Artifact Matching")
+  @Description("Matching of declared artifacts with the artifacts of the resolved Maven project")
+  @Category({CATEGORY_MAVEN, CATEGORY_ENFORCERS})
+  @StackTrace(false)
+  static final class MatchingEvent extends Event {
+
+    @Label("Module")
+    String module;
+
+    @Label("Rule")
+    String rule;
+
+    @Label("Matcher")
+    String matcher;
+
+    @Label("Superset Size")
+    int supersetSize;
+
+    @Label("Subset Size")
+    int subsetSize;
+  }
+
+  @Name("com.github.ferstl.pomenforcers.Diff")
+  @Label("Report Diff")
+  @Description("Creation of a side-by-side diff for an error report")
+  @Category({CATEGORY_MAVEN, CATEGORY_ENFORCERS})
+  @StackTrace(false)
+  static final class DiffEvent extends Event {
+
+    @Label("Module")
+    String module;
+
+    @Label("Rule")
+    String rule;
+
+    @Label("Actual Size")
+    int actualSize;
+
+    @Label("Required Size")
+    int requiredSize;
+  }
+
+  private JfrEvents() {
+  }
+}
@@ -28,7 +28,15 @@ import difflib.DiffUtils;
 public final class SideBySideDiffUtil {
 
   public static String diff(Collection<String> actual, Collection<String> required, String leftTitle, String rightTitle) {
+    EnforcerEvents.Scope event = EnforcerEvents.diff(actual.size(), required.size());
+    try {
+      return createDiff(actual, required, leftTitle, rightTitle);
+    } finally {
+      event.close();
+    }
+  }
 
+  private static String createDiff(Collection<String> actual, Collection<String> required, String leftTitle, String rightTitle) {
     SideBySideContext context = new SideBySideContext(actual, required, leftTitle, rightTitle);
     int offset = 0;
 
@@ -17,27 +17,27 @@ package com.github.ferstl.maven.pomenforcers.util;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 
-import javax.xml.namespace.QName;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathExpression;
-import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import org.xml.sax.SAXException;
 
 public final class XmlUtils {
 
+  // Looking up the factories is expensive and document builders are not thread-safe. So they are created once per
+  // thread and reused.
+  private static final ThreadLocal<DocumentBuilder> DOCUMENT_BUILDER = ThreadLocal.withInitial(XmlUtils::createDocumentBuilder);
+  private static final ThreadLocal<XMLInputFactory> XML_INPUT_FACTORY = ThreadLocal.withInitial(XmlUtils::createXmlInputFactory);
+
   /**
-   * Parses the given file into an XML {@link Document}.
+   * Parses the given file into a namespace-aware XML {@link Document}.
    * @param file The file to parse.
    * @return The created XML {@link Document}.
    */
@@ -45,72 +45,65 @@ public final class XmlUtils {
     if (!file.exists()) {
       throw new IllegalArgumentException("File " + file + " does not exist.");
     }
+    EnforcerEvents.Scope event = EnforcerEvents.xmlParsing(file.toURI().toString());
     try {
-      DocumentBuilder docBuilder = createDocumentBuilder();
-      return docBuilder.parse(file);
+      return getDocumentBuilder().parse(file);
     } catch (SAXException | IOException e) {
       throw new IllegalStateException("Unable to parse XML file " + file, e);
+    } finally {
+      event.close();
     }
   }
 
   /**
-   * Returns the XML {@link Element} matching the given XPath expression.
-   * @param expression XPath expression.
-   * @param document XML document to search for the element.
-   * @return The matching XML {@link Element}.
-   */
-  public static Element evaluateXPathAsElement(String expression, Document document) {
-    return evaluateXpath(expression, document, XPathConstants.NODE);
-  }
-
-  /**
-   * Returns the XML {@link NodeList} matching the given XPath expression.
-   * @param expression XPath expression.
-   * @param document XML document to search for the node list.
-   * @return The matching XML {@link NodeList}.
+   * Parses the given input stream into a namespace-aware XML {@link Document}.
+   * @param inputStream The stream to parse.
+   * @param systemId System ID of the parsed content. Used for error messages.
+   * @return The created XML {@link Document}.
    */
-  public static NodeList evaluateXPathAsNodeList(String expression, Document document) {
-    return evaluateXpath(expression, document, XPathConstants.NODESET);
+  public static Document parseXml(InputStream inputStream, String systemId) {
+    EnforcerEvents.Scope event = EnforcerEvents.xmlParsing(systemId);
+    try {
+      return getDocumentBuilder().parse(inputStream, systemId);
+    } catch (SAXException | IOException e) {
+      throw new IllegalStateException("Unable to parse XML file " + systemId, e);
+    } finally {
+      event.close();
+    }
   }
 
   /**
-   * Creates a XML document with the given root element and the given {@link NodeList} as content.
-   * @param root The root element of the XML document.
-   * @param content Content of the XML document.
-   * @return The created XML document.
+   * Creates a namespace-aware StAX reader for the given input stream.
+   * @param inputStream The stream to read.
+   * @param systemId System ID of the read content. Used for error messages.
+   * @return The created {@link XMLStreamReader}.
    */
-  public static Document createDocument(String root, NodeList content) {
-    DocumentBuilder docBuilder = createDocumentBuilder();
-    Document document = docBuilder.newDocument();
-    Element rootElement = document.createElement(root);
-    document.appendChild(rootElement);
-
-    for (int i = 0; i < content.getLength(); i++) {
-      Node item = content.item(i);
-      item = document.adoptNode(item.cloneNode(true));
-      rootElement.appendChild(item);
+  public static XMLStreamReader createXmlStreamReader(InputStream inputStream, String systemId) {
+    try {
+      return XML_INPUT_FACTORY.get().createXMLStreamReader(systemId, inputStream);
+    } catch (XMLStreamException e) {
+      throw new IllegalStateException("Unable to read XML file " + systemId, e);
     }
-    return document;
   }
 
-  @SuppressWarnings("unchecked")
-  private static <T> T evaluateXpath(String expression, Document document, QName dataType) {
-    try {
-      XPath xpath = createXPath();
-      XPathExpression compiledExpression = xpath.compile(expression);
-      return (T) compiledExpression.evaluate(document, dataType);
-    } catch (XPathExpressionException e) {
-      throw new IllegalArgumentException("Cannot evaluate XPath expression '" + expression + "'");
-    }
+  private static DocumentBuilder getDocumentBuilder() {
+    DocumentBuilder docBuilder = DOCUMENT_BUILDER.get();
+    docBuilder.reset();
+    return docBuilder;
   }
 
-  private static XPath createXPath() {
-    return XPathFactory.newInstance().newXPath();
+  private static XMLInputFactory createXmlInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
   }
 
   private static DocumentBuilder createDocumentBuilder() {
     try {
-      return DocumentBuilderFactory.newInstance().newDocumentBuilder();
+      DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+      factory.setNamespaceAware(true);
+      return factory.newDocumentBuilder();
     } catch (ParserConfigurationException e) {
       throw new IllegalStateException("Cannot create document builder", e);
     }
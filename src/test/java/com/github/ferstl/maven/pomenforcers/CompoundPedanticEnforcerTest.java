@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+import org.apache.maven.enforcer.rule.api.EnforcerRuleHelper;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.project.MavenProject;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import com.github.ferstl.maven.pomenforcers.model.DependencyScope;
+import static com.github.ferstl.maven.pomenforcers.ErrorReportMatcher.hasErrors;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * JUnit tests for {@link CompoundPedanticEnforcer}.
+ */
+public class CompoundPedanticEnforcerTest extends AbstractPedanticEnforcerTest<CompoundPedanticEnforcer> {
+
+  private static final String ENFORCERS = "DEPENDENCY_ORDER,DEPENDENCY_MANAGEMENT_ORDER,DEPENDENCY_CONFIGURATION,DEPENDENCY_ELEMENT,POM_SECTION_ORDER";
+
+  @Rule
+  public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+  @Override
+  CompoundPedanticEnforcer createRule() {
+    return new CompoundPedanticEnforcer();
+  }
+
+  @Override
+  @Test
+  public void getDescription() {
+    assertThat(this.testRule.getDescription(), equalTo(PedanticEnforcerRule.COMPOUND));
+  }
+
+  @Override
+  @Test
+  public void accept() {
+    PedanticEnforcerVisitor visitor = mock(PedanticEnforcerVisitor.class);
+    this.testRule.accept(visitor);
+
+    verify(visitor).visit(this.testRule);
+  }
+
+  @Test
+  public void parallelExecutionReportsErrorsInConfiguredOrder() {
+    addDependency("b", "b", DependencyScope.COMPILE);
+    addDependency("a", "a", DependencyScope.COMPILE);
+    addManagedDependency("d", "d", DependencyScope.COMPILE);
+    addManagedDependency("c", "c", DependencyScope.COMPILE);
+    this.testRule.setEnforcers(ENFORCERS);
+
+    this.testRule.doEnforce(this.report);
+    String sequentialReport = this.report.toString();
+
+    this.testRule.setParallel(true);
+    this.report = new ErrorReport(this.testRule.getDescription());
+    this.testRule.doEnforce(this.report);
+
+    assertThat(this.report, hasErrors());
+    assertThat(this.report.toString(), equalTo(sequentialReport));
+  }
+
+  @Test
+  public void aggregateSkipsProjectsOtherThanFirstProject() {
+    EnforcerRuleHelper helper = this.testRule.getHelper();
+    MavenSession session = mock(MavenSession.class);
+    MavenProject root = createProject("parent", new File("pom.xml"));
+    MavenProject project = createProject("module", new File("pom.xml"));
+    when(session.getProjects()).thenReturn(Arrays.asList(root, project));
+    this.testRule.setEnforcers("POM_SECTION_ORDER");
+    this.testRule.setAggregate(true);
+
+    Optional<String> errors = this.testRule.enforce(helper, session, project);
+
+    assertThat(errors.isPresent(), equalTo(false));
+    verify(session, never()).clone();
+  }
+
+  @Test
+  public void aggregateInPartialReactor() throws Exception {
+    EnforcerRuleHelper helper = this.testRule.getHelper();
+    // The execution root is not part of the reactor, e.g. with -pl module1,module2
+    MavenProject module1 = createProject("module1", writeOrderedPom("module1"));
+    MavenProject module2 = createProject("module2", writeUnorderedPom("module2"));
+    MavenSession session = mockSession(module1, module2);
+    this.testRule.setEnforcers("POM_SECTION_ORDER");
+    this.testRule.setAggregate(true);
+
+    Optional<String> errors1 = this.testRule.enforce(helper, session, module1);
+    Optional<String> errors2 = this.testRule.enforce(helper, session, module2);
+
+    assertThat(errors1.isPresent(), equalTo(true));
+    assertThat(errors1.get(), containsString("Module com.example:module2"));
+    assertThat(errors2.isPresent(), equalTo(false));
+  }
+
+  @Test
+  public void aggregateReportsErrorsOfAllProjectsInFirstProject() throws Exception {
+    EnforcerRuleHelper helper = this.testRule.getHelper();
+    MavenProject root = createProject("parent", writeUnorderedPom("parent"));
+    root.setExecutionRoot(true);
+    MavenProject valid = createProject("valid", writeOrderedPom("valid"));
+    MavenProject module = createProject("module", writeUnorderedPom("module"));
+    MavenSession session = mockSession(root, valid, module);
+    this.testRule.setEnforcers("POM_SECTION_ORDER");
+    this.testRule.setAggregate(true);
+
+    Optional<String> errors = this.testRule.enforce(helper, session, root);
+
+    assertThat(errors.isPresent(), equalTo(true));
+    String report = errors.get();
+    assertThat(report, containsString("Module com.example:parent"));
+    assertThat(report, not(containsString("Module com.example:valid")));
+    assertThat(report, containsString("Module com.example:module"));
+    assertThat(report.indexOf("Module com.example:parent"), lessThan(report.indexOf("Module com.example:module")));
+  }
+
+  @Test
+  public void instrumentationLogsSummaryAfterLastModule() throws Exception {
+    EnforcerRuleHelper helper = mock(EnforcerRuleHelper.class);
+    Log log = mock(Log.class);
+    MavenSession session = mock(MavenSession.class);
+    MavenProject project = createProject("module", writeUnorderedPom("module"));
+    when(helper.getLog()).thenReturn(log);
+    when(helper.evaluate("${project}")).thenReturn(project);
+    when(helper.evaluate("${session}")).thenReturn(session);
+    when(session.getProjects()).thenReturn(Collections.singletonList(project));
+    this.testRule.setEnforcers("POM_SECTION_ORDER,MODULE_ORDER");
+    this.testRule.setInstrumentation(true);
+
+    Optional<String> errors = this.testRule.enforce(helper, session, project);
+
+    assertThat(errors.isPresent(), equalTo(true));
+    verify(log).info("Pedantic enforcer statistics:");
+    verify(log).info(argThat((CharSequence line) -> line.toString().startsWith("com.example:module") && line.toString().contains("POM_SECTION_ORDER")));
+    verify(log).info(argThat((CharSequence line) -> line.toString().startsWith("com.example:module") && line.toString().contains("MODULE_ORDER")));
+  }
+
+  @Test
+  public void instrumentationLogsMeasurementsOfLaterExecutions() throws Exception {
+    EnforcerRuleHelper helper = mock(EnforcerRuleHelper.class);
+    Log log = mock(Log.class);
+    MavenSession session = mock(MavenSession.class);
+    MavenProject project = createProject("module", writeUnorderedPom("module"));
+    when(helper.getLog()).thenReturn(log);
+    when(helper.evaluate("${project}")).thenReturn(project);
+    when(helper.evaluate("${session}")).thenReturn(session);
+    when(session.getProjects()).thenReturn(Collections.singletonList(project));
+    this.testRule.setEnforcers("POM_SECTION_ORDER");
+    this.testRule.setInstrumentation(true);
+    CompoundPedanticEnforcer secondExecution = new CompoundPedanticEnforcer();
+    secondExecution.setEnforcers("MODULE_ORDER");
+    secondExecution.setInstrumentation(true);
+
+    this.testRule.enforce(helper, session, project);
+    secondExecution.enforce(helper, session, project);
+
+    verify(log, times(2)).info("Pedantic enforcer statistics:");
+    verify(log, times(2)).info(argThat((CharSequence line) -> line.toString().contains("POM_SECTION_ORDER")));
+    verify(log, times(2)).info(argThat((CharSequence line) -> line.toString().contains("MODULE_ORDER")));
+  }
+
+  private static MavenSession mockSession(MavenProject... projects) {
+    MavenSession session = mock(MavenSession.class);
+    when(session.getProjects()).thenReturn(Arrays.asList(projects));
+    MavenSession clonedSession = mock(MavenSession.class);
+    when(clonedSession.getSystemProperties()).thenReturn(new Properties());
+    when(clonedSession.getUserProperties()).thenReturn(new Properties());
+    when(session.clone()).thenReturn(clonedSession);
+
+    return session;
+  }
+
+  private File writeOrderedPom(String artifactId) throws IOException {
+    return writePom(artifactId, "<groupId>com.example</groupId><artifactId>" + artifactId + "</artifactId>");
+  }
+
+  private File writeUnorderedPom(String artifactId) throws IOException {
+    return writePom(artifactId, "<artifactId>" + artifactId + "</artifactId><groupId>com.example</groupId>");
+  }
+
+  private File writePom(String artifactId, String content) throws IOException {
+    File pomFile = new File(this.tmpFolder.newFolder(artifactId), "pom.xml");
+    Files.write(pomFile.toPath(), ("<project>" + content + "</project>").getBytes(UTF_8));
+
+    return pomFile;
+  }
+
+  private static MavenProject createProject(String artifactId, File pomFile) {
+    MavenProject project = new MavenProject();
+    project.setGroupId("com.example");
+    project.setArtifactId(artifactId);
+    project.setVersion("1.0");
+    project.setFile(pomFile);
+
+    return project;
+  }
+}
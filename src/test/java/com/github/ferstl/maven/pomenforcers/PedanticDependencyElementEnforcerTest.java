@@ -15,9 +15,12 @@
  */
 package com.github.ferstl.maven.pomenforcers;
 
+import java.io.ByteArrayInputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import org.apache.maven.enforcer.rule.api.EnforcerRuleHelper;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluationException;
 import org.junit.Before;
 import org.junit.Test;
 import org.w3c.dom.Document;
@@ -25,8 +28,11 @@ import com.github.ferstl.maven.pomenforcers.model.ProjectModel;
 import com.github.ferstl.maven.pomenforcers.util.XmlUtils;
 import static com.github.ferstl.maven.pomenforcers.ErrorReportMatcher.hasErrors;
 import static com.github.ferstl.maven.pomenforcers.ErrorReportMatcher.hasNoErrors;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class PedanticDependencyElementEnforcerTest {
 
@@ -80,13 +86,63 @@ public class PedanticDependencyElementEnforcerTest {
     assertThat(this.errorReport, hasErrors());
   }
 
+  @Test
+  public void streamingReportsSameErrors() {
+    for (String pom : new String[]{"src/test/projects/example-project/pom.xml", "src/test/projects/example-project/module1/pom.xml"}) {
+      for (String priorities : new String[]{"groupId", "artifactId,groupId", "version"}) {
+        // arrange
+        Path pomFile = Paths.get(pom);
+        PedanticDependencyElementEnforcer enforcer = createEnforcer(pomFile);
+        enforcer.setElementPriorities(priorities);
+        ErrorReport streamingReport = new ErrorReport(PedanticEnforcerRule.DEPENDENCY_ELEMENT);
+
+        // act
+        enforcer.doEnforce(this.errorReport);
+        enforcer.setStreaming(true);
+        enforcer.doEnforce(streamingReport);
+
+        // assert
+        assertThat(streamingReport.toString(), equalTo(this.errorReport.toString()));
+        this.errorReport = new ErrorReport(PedanticEnforcerRule.DEPENDENCY_ELEMENT);
+      }
+    }
+  }
+
+  @Test
+  public void streamingReadsPomContent() {
+    // arrange
+    String pom = "<project xmlns='http://maven.apache.org/POM/4.0.0'><dependencies>"
+        + "<dependency><artifactId>a</artifactId><groupId>com.example</groupId></dependency></dependencies></project>";
+    PedanticDependencyElementEnforcer enforcer = new PedanticDependencyElementEnforcer();
+    // The POM file does not exist, so the enforcer has to use the given content.
+    enforcer.initialize(createHelper(Paths.get("does-not-exist/pom.xml")), () -> null, ProjectModel::new, () -> new ByteArrayInputStream(pom.getBytes(UTF_8)));
+    enforcer.setStreaming(true);
+
+    // act
+    enforcer.doEnforce(this.errorReport);
+
+    // assert
+    assertThat(this.errorReport, hasErrors());
+  }
+
   private PedanticDependencyElementEnforcer createEnforcer(Path pomFile) {
     Document document = XmlUtils.parseXml(pomFile.toFile());
     PedanticDependencyElementEnforcer enforcer = new PedanticDependencyElementEnforcer();
 
-    enforcer.initialize(mock(EnforcerRuleHelper.class), document, new ProjectModel());
+    enforcer.initialize(createHelper(pomFile), document, new ProjectModel());
     return enforcer;
   }
 
-
+  private static EnforcerRuleHelper createHelper(Path pomFile) {
+    MavenProject project = new MavenProject();
+    project.setFile(pomFile.toFile());
+    EnforcerRuleHelper helper = mock(EnforcerRuleHelper.class);
+    try {
+      when(helper.evaluate("${project}")).thenReturn(project);
+    } catch (ExpressionEvaluationException e) {
+      throw new IllegalStateException(e);
+    }
+
+    return helper;
+  }
 }
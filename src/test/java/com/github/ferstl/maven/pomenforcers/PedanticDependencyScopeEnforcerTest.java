@@ -15,12 +15,14 @@
  */
 package com.github.ferstl.maven.pomenforcers;
 
+import java.io.File;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import org.codehaus.plexus.util.StringUtils;
 import org.junit.Before;
 import org.junit.Test;
@@ -35,6 +37,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * JUnit tests for {@link PedanticDependencyScopeEnforcer}.
@@ -72,6 +75,18 @@ public class PedanticDependencyScopeEnforcerTest extends AbstractPedanticEnforce
     addDependenciesForAllScopes();
   }
 
+  @Test
+  public void pomFileNotRead() {
+    when(this.mockMavenProject.getFile()).thenReturn(new File("does-not-exist/pom.xml"));
+
+    assertThat(this.testRule.enforce(this.testRule.getHelper(), null, this.mockMavenProject), equalTo(Optional.empty()));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void undeclaredRequirement() {
+    this.testRule.getProjectModel();
+  }
+
   @Override
   @Test
   public void getDescription() {
@@ -77,6 +77,18 @@ public class PedanticModuleOrderEnforcerTest extends AbstractPedanticEnforcerTes
     executeRuleAndCheckReport(false);
   }
 
+  @Test
+  public void noProjectModelForNoPomPackaging() {
+    when(this.mockMavenProject.getPackaging()).thenReturn("jar");
+    this.testRule.initialize(this.testRule.getHelper(), () -> {
+      throw new AssertionError("POM must not be parsed");
+    }, () -> {
+      throw new AssertionError("Project model must not be created");
+    });
+
+    executeRuleAndCheckReport(false);
+  }
+
   @Test
   public void incorrectOrder() {
     when(this.projectModel.getModules()).thenReturn(Arrays.asList("m2", "m1"));
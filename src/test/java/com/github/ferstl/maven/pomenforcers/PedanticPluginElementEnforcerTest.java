@@ -18,6 +18,8 @@ package com.github.ferstl.maven.pomenforcers;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import org.apache.maven.enforcer.rule.api.EnforcerRuleHelper;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluationException;
 import org.junit.Before;
 import org.junit.Test;
 import org.w3c.dom.Document;
@@ -26,7 +28,9 @@ import com.github.ferstl.maven.pomenforcers.util.XmlUtils;
 import static com.github.ferstl.maven.pomenforcers.ErrorReportMatcher.hasErrors;
 import static com.github.ferstl.maven.pomenforcers.ErrorReportMatcher.hasNoErrors;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class PedanticPluginElementEnforcerTest {
 
@@ -80,13 +84,46 @@ public class PedanticPluginElementEnforcerTest {
     assertThat(this.errorReport, hasErrors());
   }
 
+  @Test
+  public void streamingReportsSameErrors() {
+    for (String pom : new String[]{"src/test/projects/plugins/pom.xml"}) {
+      for (String priorities : new String[]{"groupId", "artifactId,groupId", "version"}) {
+        // arrange
+        Path pomFile = Paths.get(pom);
+        PedanticPluginElementEnforcer enforcer = createEnforcer(pomFile);
+        enforcer.setElementPriorities(priorities);
+        ErrorReport streamingReport = new ErrorReport(PedanticEnforcerRule.PLUGIN_ELEMENT);
+
+        // act
+        enforcer.doEnforce(this.errorReport);
+        enforcer.setStreaming(true);
+        enforcer.doEnforce(streamingReport);
+
+        // assert
+        assertThat(streamingReport.toString(), equalTo(this.errorReport.toString()));
+        this.errorReport = new ErrorReport(PedanticEnforcerRule.PLUGIN_ELEMENT);
+      }
+    }
+  }
+
   private PedanticPluginElementEnforcer createEnforcer(Path pomFile) {
     Document document = XmlUtils.parseXml(pomFile.toFile());
     PedanticPluginElementEnforcer enforcer = new PedanticPluginElementEnforcer();
 
-    enforcer.initialize(mock(EnforcerRuleHelper.class), document, new ProjectModel());
+    enforcer.initialize(createHelper(pomFile), document, new ProjectModel());
     return enforcer;
   }
 
-
+  private static EnforcerRuleHelper createHelper(Path pomFile) {
+    MavenProject project = new MavenProject();
+    project.setFile(pomFile.toFile());
+    EnforcerRuleHelper helper = mock(EnforcerRuleHelper.class);
+    try {
+      when(helper.evaluate("${project}")).thenReturn(project);
+    } catch (ExpressionEvaluationException e) {
+      throw new IllegalStateException(e);
+    }
+
+    return helper;
+  }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * JUnit tests for {@link PedanticPomChecker}.
+ */
+public class PedanticPomCheckerTest {
+
+  @Rule
+  public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+  @Test
+  public void exampleProject() {
+    Map<String, String> configuration = new HashMap<>();
+    configuration.put("moduleOrderIgnores", "module3,module4");
+    configuration.put("checkDependencyManagementElements", "true");
+
+    SortedMap<Path, String> errors = new PedanticPomChecker(configuration).check(Collections.singleton(Paths.get("src/test/projects/example-project")));
+
+    assertThat(errors.keySet().toString(), errors.isEmpty(), equalTo(true));
+  }
+
+  @Test
+  public void reportsViolatingPomFiles() throws Exception {
+    writePom("", "<packaging>pom</packaging><modules><module>b</module><module>a</module></modules>");
+    writePom("a", "<artifactId>a</artifactId><groupId>com.example</groupId>");
+    writePom("b", "<groupId>com.example</groupId><artifactId>b</artifactId>");
+    writePom("a/target", "<artifactId>a</artifactId><groupId>com.example</groupId>");
+
+    SortedMap<Path, String> errors = new PedanticPomChecker().check(Collections.singleton(this.tmpFolder.getRoot().toPath()));
+
+    Path root = this.tmpFolder.getRoot().toPath();
+    assertThat(errors.keySet(), contains(root.resolve("a/pom.xml"), root.resolve("pom.xml")));
+    assertThat(errors.get(root.resolve("pom.xml")), containsString(PedanticEnforcerRule.MODULE_ORDER.name()));
+    assertThat(errors.get(root.resolve("a/pom.xml")), containsString(PedanticEnforcerRule.POM_SECTION_ORDER.name()));
+  }
+
+  @Test
+  public void reportsUnreadablePomFilesWithoutAbortingTheCheck() throws Exception {
+    writePom("a", "<artifactId>a</artifactId><groupId>com.example</groupId>");
+    File malformedPom = new File(this.tmpFolder.getRoot(), "b/pom.xml");
+    malformedPom.getParentFile().mkdirs();
+    Files.write(malformedPom.toPath(), "<project><groupId>".getBytes(UTF_8));
+
+    SortedMap<Path, String> errors = new PedanticPomChecker().check(Collections.singleton(this.tmpFolder.getRoot().toPath()));
+
+    Path root = this.tmpFolder.getRoot().toPath();
+    assertThat(errors.keySet(), contains(root.resolve("a/pom.xml"), root.resolve("b/pom.xml")));
+    assertThat(errors.get(root.resolve("a/pom.xml")), containsString(PedanticEnforcerRule.POM_SECTION_ORDER.name()));
+    assertThat(errors.get(root.resolve("b/pom.xml")), containsString("Unable to check POM file"));
+  }
+
+  @Test
+  public void configuredEnforcers() throws Exception {
+    writePom("", "<packaging>pom</packaging><modules><module>b</module><module>a</module></modules>");
+
+    SortedMap<Path, String> errors = new PedanticPomChecker(Collections.singletonMap("enforcers", "POM_SECTION_ORDER")).check(Collections.singleton(this.tmpFolder.getRoot().toPath()));
+
+    assertThat(errors.isEmpty(), equalTo(true));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void unsupportedRule() {
+    new PedanticPomChecker(Collections.singletonMap("enforcers", "DEPENDENCY_ORDER"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void unknownParameter() {
+    new PedanticPomChecker(Collections.singletonMap("unknown", "value"));
+  }
+
+  private void writePom(String directory, String content) throws IOException {
+    File pomFile = new File(this.tmpFolder.getRoot(), directory + "/pom.xml");
+    pomFile.getParentFile().mkdirs();
+    Files.write(pomFile.toPath(), ("<project xmlns=\"http://maven.apache.org/POM/4.0.0\">" + content + "</project>").getBytes(UTF_8));
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * JUnit tests for {@link PedanticPomDaemon}.
+ */
+public class PedanticPomDaemonTest {
+
+  private static final String ORDERED = "<groupId>com.example</groupId><artifactId>a</artifactId>";
+  private static final String UNORDERED = "<artifactId>a</artifactId><groupId>com.example</groupId>";
+
+  @Rule
+  public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+  private Path pomFile;
+  private PedanticPomDaemon daemon;
+
+  @Before
+  public void before() throws Exception {
+    this.pomFile = this.tmpFolder.getRoot().toPath().resolve("pom.xml");
+    writePom(this.pomFile, UNORDERED);
+
+    this.daemon = new PedanticPomDaemon(new PedanticPomChecker(), Collections.singleton(this.tmpFolder.getRoot().toPath()));
+    this.daemon.start();
+  }
+
+  @After
+  public void after() {
+    this.daemon.close();
+  }
+
+  @Test
+  public void initialCheck() {
+    assertThat(this.daemon.getErrors().keySet(), contains(this.pomFile));
+  }
+
+  @Test
+  public void checkChangedPom() throws Exception {
+    writePom(this.pomFile, ORDERED);
+
+    assertThat(this.daemon.check(this.pomFile).isPresent(), equalTo(false));
+    assertThat(this.daemon.getErrors().isEmpty(), equalTo(true));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsOtherFiles() throws Exception {
+    Path otherFile = this.tmpFolder.getRoot().toPath().resolve("other.xml");
+    writePom(otherFile, UNORDERED);
+
+    this.daemon.check(otherFile);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsPomFilesInSkippedDirectories() throws Exception {
+    Path targetPom = Files.createDirectory(this.tmpFolder.getRoot().toPath().resolve("target")).resolve("pom.xml");
+    writePom(targetPom, UNORDERED);
+
+    this.daemon.check(targetPom);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsPomFilesOutsideOfWatchedDirectories() throws Exception {
+    this.daemon.check(this.tmpFolder.getRoot().toPath().resolve("../pom.xml"));
+  }
+
+  @Test
+  public void watchNewModule() throws Exception {
+    Path moduleDirectory = Files.createDirectory(this.tmpFolder.getRoot().toPath().resolve("module"));
+    Path modulePom = moduleDirectory.resolve("pom.xml");
+    writePom(modulePom, UNORDERED);
+    writePom(this.pomFile, ORDERED);
+
+    awaitCondition(() -> this.daemon.getErrors().keySet().equals(Collections.singleton(modulePom)));
+  }
+
+  @Test
+  public void socketRequests() throws Exception {
+    int port = this.daemon.listen(0);
+
+    try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), UTF_8));
+        Writer writer = new OutputStreamWriter(socket.getOutputStream(), UTF_8)) {
+      writer.write("\n");
+      writer.flush();
+      String allErrors = readResponse(reader);
+
+      writePom(this.pomFile, ORDERED);
+      writer.write(this.pomFile + "\n");
+      writer.flush();
+      String pomErrors = readResponse(reader);
+
+      assertThat(allErrors, containsString(PedanticEnforcerRule.POM_SECTION_ORDER.name()));
+      assertThat(pomErrors, not(containsString(PedanticEnforcerRule.POM_SECTION_ORDER.name())));
+    }
+  }
+
+  private static String readResponse(BufferedReader reader) throws IOException {
+    StringBuilder response = new StringBuilder();
+    for (String line = reader.readLine(); !".".equals(line); line = reader.readLine()) {
+      response.append(line).append('\n');
+    }
+
+    return response.toString();
+  }
+
+  private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+    while (!condition.getAsBoolean()) {
+      if (System.nanoTime() > deadline) {
+        throw new AssertionError("Condition not met within 30 seconds");
+      }
+      Thread.sleep(10);
+    }
+  }
+
+  private static void writePom(Path pomFile, String content) throws IOException {
+    Files.write(pomFile, ("<project xmlns=\"http://maven.apache.org/POM/4.0.0\">" + content + "</project>").getBytes(UTF_8));
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+
+public class PersistentResultCacheTest {
+
+  @Rule
+  public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+  private Path directory;
+  private AtomicInteger invocations;
+
+  @Before
+  public void before() throws IOException {
+    this.directory = this.tempFolder.newFolder("cache").toPath();
+    this.invocations = new AtomicInteger();
+  }
+
+  @Test
+  public void pluginVersionIsKnown() throws IOException {
+    Properties testProperties = new Properties();
+    try (InputStream is = getClass().getResourceAsStream("/test.properties")) {
+      testProperties.load(is);
+    }
+
+    String projectVersion = testProperties.getProperty("project.version");
+    if (projectVersion.endsWith("-SNAPSHOT")) {
+      assertThat(PersistentResultCache.getPluginVersion(), startsWith(projectVersion + "@"));
+      assertThat(PersistentResultCache.getPluginVersion(), not(containsString("${")));
+    } else {
+      assertThat(PersistentResultCache.getPluginVersion(), equalTo(projectVersion));
+    }
+  }
+
+  @Test
+  public void resultIsReusedAcrossInstances() {
+    HashCode fingerprint = fingerprint("pom");
+
+    Optional<String> result1 = new PersistentResultCache(this.directory).get("key", fingerprint, this::error);
+    Optional<String> result2 = new PersistentResultCache(this.directory).get("key", fingerprint, this::error);
+
+    assertThat(result1, equalTo(Optional.of("error 1")));
+    assertThat(result2, equalTo(result1));
+    assertThat(this.invocations.get(), is(1));
+  }
+
+  @Test
+  public void successfulResultIsReused() {
+    HashCode fingerprint = fingerprint("pom");
+    PersistentResultCache cache = new PersistentResultCache(this.directory);
+
+    cache.get("key", fingerprint, this::success);
+    Optional<String> result = new PersistentResultCache(this.directory).get("key", fingerprint, this::error);
+
+    assertThat(result, equalTo(Optional.empty()));
+    assertThat(this.invocations.get(), is(1));
+  }
+
+  @Test
+  public void changedFingerprintReplacesEntry() {
+    PersistentResultCache cache = new PersistentResultCache(this.directory);
+
+    cache.get("key", fingerprint("pom1"), this::error);
+    Optional<String> result = cache.get("key", fingerprint("pom2"), this::error);
+
+    assertThat(result, equalTo(Optional.of("error 2")));
+    assertThat(this.directory.toFile().listFiles(), arrayWithSize(1));
+  }
+
+  @Test
+  public void corruptEntryIsIgnored() throws IOException {
+    PersistentResultCache cache = new PersistentResultCache(this.directory);
+    Files.write(this.directory.resolve("key.bin"), new byte[]{1, 2, 3});
+
+    Optional<String> result = cache.get("key", fingerprint("pom"), this::error);
+
+    assertThat(result, equalTo(Optional.of("error 1")));
+  }
+
+  @Test
+  public void leastRecentlyUsedEntriesAreEvicted() {
+    PersistentResultCache cache = PersistentResultCache.forDirectory(this.directory.toFile(), 10);
+
+    for (int i = 0; i < 11; i++) {
+      cache.get("key" + i, fingerprint("pom"), this::error);
+      // Make sure the entries have distinct modification times
+      this.directory.resolve("key" + i + ".bin").toFile().setLastModified(1000L * i);
+    }
+
+    File[] entries = this.directory.toFile().listFiles();
+    assertThat(entries, arrayWithSize(9));
+    assertThat(cache.get("key10", fingerprint("pom"), this::error), equalTo(Optional.of("error 11")));
+    assertThat(cache.get("key0", fingerprint("pom"), this::error), equalTo(Optional.of("error 12")));
+  }
+
+  private Optional<String> error() {
+    return Optional.of("error " + this.invocations.incrementAndGet());
+  }
+
+  private Optional<String> success() {
+    this.invocations.incrementAndGet();
+    return Optional.empty();
+  }
+
+  private static HashCode fingerprint(String content) {
+    return Hashing.sha256().hashString(content, UTF_8);
+  }
+}
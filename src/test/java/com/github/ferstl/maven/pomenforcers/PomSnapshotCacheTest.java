@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class PomSnapshotCacheTest {
+
+  private static final String POM_TEMPLATE = "<project xmlns=\"http://maven.apache.org/POM/4.0.0\"><modules><module>%s</module></modules></project>";
+
+  @Rule
+  public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+  private PomSnapshotCache cache;
+
+  @Before
+  public void before() {
+    this.cache = new PomSnapshotCache(2);
+  }
+
+  @Test
+  public void unchangedFileIsParsedOnce() throws Exception {
+    File pom = writePom("pom.xml", "a");
+
+    PomSnapshot snapshot1 = this.cache.get(pom);
+    PomSnapshot snapshot2 = this.cache.get(pom);
+
+    assertThat(snapshot2, sameInstance(snapshot1));
+  }
+
+  @Test
+  public void snapshotIsNotReusedForOtherModelReader() throws Exception {
+    File pom = writePom("pom.xml", "a");
+
+    PomSnapshot jaxbSnapshot = this.cache.get(pom);
+    PomSnapshot staxSnapshot = this.cache.get(pom, PomSnapshot.ModelSource.STAX, content -> PomSnapshot.read(pom, content, true));
+
+    assertThat(staxSnapshot, not(sameInstance(jaxbSnapshot)));
+    assertThat(staxSnapshot.getModelSource(), equalTo(PomSnapshot.ModelSource.STAX));
+    assertThat(staxSnapshot.getProjectModel().getModules(), contains("a"));
+    assertThat(this.cache.get(pom, PomSnapshot.ModelSource.STAX, content -> PomSnapshot.read(pom, content, true)), sameInstance(staxSnapshot));
+  }
+
+  @Test
+  public void changedContentWithSameSizeAndTimestamp() throws Exception {
+    File pom = writePom("pom.xml", "a");
+    long lastModified = pom.lastModified();
+    PomSnapshot snapshot1 = this.cache.get(pom);
+
+    writePom("pom.xml", "b");
+    pom.setLastModified(lastModified);
+    PomSnapshot snapshot2 = this.cache.get(pom);
+
+    assertThat(snapshot2, not(sameInstance(snapshot1)));
+    assertThat(snapshot2.getProjectModel().getModules(), contains("b"));
+  }
+
+  @Test
+  public void leastRecentlyUsedEntryIsEvicted() throws Exception {
+    File pom1 = writePom("pom1.xml", "a");
+    File pom2 = writePom("pom2.xml", "b");
+    File pom3 = writePom("pom3.xml", "c");
+
+    PomSnapshot snapshot1 = this.cache.get(pom1);
+    PomSnapshot snapshot2 = this.cache.get(pom2);
+    this.cache.get(pom1);
+    this.cache.get(pom3);
+
+    assertThat(this.cache.size(), is(2));
+    assertThat(this.cache.get(pom1), sameInstance(snapshot1));
+    assertThat(this.cache.get(pom2), not(sameInstance(snapshot2)));
+  }
+
+  @Test
+  public void reduceMaximumSize() throws Exception {
+    this.cache.get(writePom("pom1.xml", "a"));
+    this.cache.get(writePom("pom2.xml", "b"));
+
+    this.cache.setMaximumSize(1);
+    assertThat(this.cache.size(), is(1));
+
+    this.cache.setMaximumSize(0);
+    this.cache.get(writePom("pom3.xml", "c"));
+    assertThat(this.cache.size(), is(0));
+  }
+
+  private File writePom(String name, String module) throws IOException {
+    File pom = new File(this.tempFolder.getRoot(), name);
+    Files.write(pom.toPath(), String.format(POM_TEMPLATE, module).getBytes(StandardCharsets.UTF_8));
+    return pom;
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.File;
+import javax.xml.bind.JAXB;
+import org.apache.maven.model.Model;
+import org.junit.Test;
+import com.github.ferstl.maven.pomenforcers.model.ProjectModel;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class PomSnapshotTest {
+
+  @Test
+  public void projectModelEqualsUnmarshalledFile() {
+    assertSameModel(new File("src/test/projects/example-project/pom.xml"));
+    assertSameModel(new File("src/test/projects/example-project/module1/pom.xml"));
+    assertSameModel(new File("src/test/projects/issue-2/pom.xml"));
+    assertSameModel(new File("src/test/projects/plugins/pom.xml"));
+  }
+
+  @Test
+  public void mavenModelDocumentIsParsedLazily() {
+    Model originalModel = new Model();
+    originalModel.setArtifactId("a");
+    originalModel.addModule("b");
+
+    PomSnapshot snapshot = PomSnapshot.fromMavenModel(new File("pom.xml"), "<project><artifactId>c</artifactId></project>".getBytes(UTF_8), originalModel);
+
+    assertThat(snapshot.getModelSource(), equalTo(PomSnapshot.ModelSource.MAVEN_MODEL));
+    assertThat(snapshot.getProjectModel().artifactId, equalTo("a"));
+    assertThat(snapshot.getProjectModel().getModules(), contains("b"));
+    assertThat(snapshot.getDocument().getDocumentElement().getTextContent(), equalTo("c"));
+    assertThat(snapshot.getDocument(), sameInstance(snapshot.getDocument()));
+  }
+
+  @Test
+  public void invalidPomIsParsedOnAccess() {
+    PomSnapshot snapshot = PomSnapshot.read(new File("pom.xml"), "<project>".getBytes(UTF_8));
+
+    assertThat(snapshot.getContentHash(), equalTo(PomSnapshot.hash("<project>".getBytes(UTF_8))));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void staxModelDoesNotParseDocument() {
+    // An unclosed element is only detected by the DOM parser because the StAX reader stops after the root element
+    PomSnapshot snapshot = PomSnapshot.read(new File("pom.xml"), "<project><artifactId>a</artifactId></project><x>".getBytes(UTF_8), true);
+
+    assertThat(snapshot.getProjectModel().artifactId, equalTo(null));
+    snapshot.getDocument();
+  }
+
+  @Test
+  public void documentIsNamespaceAware() {
+    PomSnapshot snapshot = PomSnapshot.read(new File("src/test/projects/example-project/pom.xml"));
+
+    assertThat(snapshot.getDocument().getDocumentElement().getNamespaceURI(), equalTo("http://maven.apache.org/POM/4.0.0"));
+    assertThat(snapshot.getProjectModel().getManagedDependencies(), hasSize(8));
+  }
+
+  private static void assertSameModel(File pomFile) {
+    ProjectModel expected = JAXB.unmarshal(pomFile, ProjectModel.class);
+    PomSnapshot snapshot = PomSnapshot.read(pomFile);
+
+    // PluginModel relies on DOM elements which don't implement equals()
+    assertThat(snapshot.getProjectModel().toString(), equalTo(expected.toString()));
+  }
+}
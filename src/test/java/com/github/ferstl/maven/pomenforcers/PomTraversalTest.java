@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import com.github.ferstl.maven.pomenforcers.util.XmlUtils;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+public class PomTraversalTest {
+
+  private Document pom;
+  private PomTraversal traversal;
+  private List<String> events;
+
+  @Before
+  public void before() {
+    String content = "<project xmlns='http://maven.apache.org/POM/4.0.0'>"
+        + "<groupId>g</groupId>"
+        + "<dependencies>"
+        + "<dependency><artifactId>a</artifactId></dependency>"
+        + "<dependency><artifactId>b</artifactId></dependency>"
+        + "</dependencies>"
+        + "<build><plugins><plugin><artifactId>p</artifactId></plugin></plugins></build>"
+        + "</project>";
+    this.pom = XmlUtils.parseXml(new ByteArrayInputStream(content.getBytes(UTF_8)), "pom.xml");
+    this.traversal = new PomTraversal();
+    this.events = new ArrayList<>();
+  }
+
+  @Test
+  public void dispatchToAllHandlers() {
+    this.traversal.register("/project/*", e -> this.events.add("section " + e.getLocalName()));
+    this.traversal.register("/project/dependencies/dependency", e -> this.events.add("dependency " + e.getTextContent()));
+    this.traversal.register("/project/dependencies/dependency/*", e -> this.events.add("element " + e.getLocalName()));
+    this.traversal.onComplete(() -> this.events.add("complete"));
+
+    this.traversal.traverse(this.pom);
+
+    assertThat(this.events, contains(
+        "section groupId",
+        "section dependencies",
+        "dependency a",
+        "element artifactId",
+        "dependency b",
+        "element artifactId",
+        "section build",
+        "complete"));
+  }
+
+  @Test
+  public void multipleHandlersForSamePath() {
+    this.traversal.register("/project/build/plugins/plugin", e -> this.events.add("handler 1"));
+    this.traversal.register("/project/build/plugins/plugin", e -> this.events.add("handler 2"));
+    this.traversal.onComplete(() -> this.events.add("complete 1"));
+    this.traversal.onComplete(() -> this.events.add("complete 2"));
+
+    this.traversal.traverse(this.pom);
+
+    assertThat(this.events, contains("handler 1", "handler 2", "complete 1", "complete 2"));
+  }
+
+  @Test
+  public void noMatchingElements() {
+    this.traversal.register("/project/modules/module", e -> this.events.add(e.getTextContent()));
+
+    this.traversal.traverse(this.pom);
+
+    assertThat(this.events, empty());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidPath() {
+    this.traversal.register("/", e -> {});
+  }
+
+  @Test
+  public void rootPath() {
+    this.traversal.register("/project", e -> this.events.add(e.getLocalName()));
+
+    this.traversal.traverse(this.pom);
+
+    assertThat(this.events, contains("project"));
+  }
+
+  @Test
+  public void completionHandlersOnlyDoNotRequireDocument() {
+    this.traversal.onComplete(() -> this.events.add("complete"));
+
+    this.traversal.traverse(() -> {
+      throw new AssertionError("Document must not be requested");
+    });
+
+    assertThat(this.events, contains("complete"));
+  }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.project.MavenProject;
+import org.junit.Before;
+import org.junit.Test;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+public class RuleResultCacheTest {
+
+  private PomSnapshot pom;
+  private MavenProject project;
+
+  @Before
+  public void before() {
+    this.pom = PomSnapshot.read(new File("src/test/projects/example-project/pom.xml"));
+    this.project = new MavenProject();
+    this.project.setGroupId("a");
+    this.project.setArtifactId("b");
+    this.project.setVersion("1.0");
+    this.project.getDependencies().add(createDependency("test"));
+  }
+
+  @Test
+  public void sameConfigurationSameCacheId() {
+    String cacheId1 = RuleResultCache.createCacheId(createModuleOrderEnforcer("a,b"), this.pom, this.project);
+    String cacheId2 = RuleResultCache.createCacheId(createModuleOrderEnforcer("a,b"), this.pom, this.project);
+
+    assertThat(cacheId1, equalTo(cacheId2));
+  }
+
+  @Test
+  public void differentConfigurationDifferentCacheId() {
+    String cacheId1 = RuleResultCache.createCacheId(createModuleOrderEnforcer("a,b"), this.pom, this.project);
+    String cacheId2 = RuleResultCache.createCacheId(createModuleOrderEnforcer("a,c"), this.pom, this.project);
+
+    assertThat(cacheId1, not(equalTo(cacheId2)));
+  }
+
+  @Test
+  public void differentCompoundConfigurationDifferentCacheId() {
+    CompoundPedanticEnforcer compound1 = new CompoundPedanticEnforcer();
+    compound1.setEnforcers("DEPENDENCY_ORDER");
+    CompoundPedanticEnforcer compound2 = new CompoundPedanticEnforcer();
+    compound2.setEnforcers("DEPENDENCY_ORDER,MODULE_ORDER");
+
+    String cacheId1 = RuleResultCache.createCacheId(compound1, this.pom, this.project);
+    String cacheId2 = RuleResultCache.createCacheId(compound2, this.pom, this.project);
+
+    assertThat(cacheId1, not(equalTo(cacheId2)));
+  }
+
+  @Test
+  public void fingerprintDoesNotDependOnConfigurationOrder() {
+    PedanticDependencyScopeEnforcer rule1 = new PedanticDependencyScopeEnforcer();
+    rule1.setCompileDependencies("a:b,c:d");
+    rule1.setTestDependencies("e:f");
+    rule1.setProvidedDependencies("g:h");
+    PedanticDependencyScopeEnforcer rule2 = new PedanticDependencyScopeEnforcer();
+    rule2.setProvidedDependencies("g:h");
+    rule2.setTestDependencies("e:f");
+    rule2.setCompileDependencies("c:d,a:b");
+
+    assertThat(rule1.getConfigurationFingerprint(), equalTo(rule2.getConfigurationFingerprint()));
+  }
+
+  @Test
+  public void describeSortsUnorderedCollections() {
+    assertThat(AbstractPedanticEnforcer.describe(new HashSet<>(Arrays.asList("b", "c", "a"))), equalTo("[a, b, c]"));
+    assertThat(AbstractPedanticEnforcer.describe(new LinkedHashSet<>(Arrays.asList("b", "c", "a"))), equalTo("[b, c, a]"));
+    assertThat(AbstractPedanticEnforcer.describe(Arrays.asList("b", "a")), equalTo("[b, a]"));
+  }
+
+  @Test
+  public void modelOptionsChangeFingerprint() throws Exception {
+    PedanticModuleOrderEnforcer rule = new PedanticModuleOrderEnforcer();
+    String fingerprint1 = rule.getConfigurationFingerprint();
+
+    setField(rule, "staxModelReader", true);
+    String fingerprint2 = rule.getConfigurationFingerprint();
+
+    setField(rule, "mavenModel", true);
+    String fingerprint3 = rule.getConfigurationFingerprint();
+
+    assertThat(fingerprint1, not(equalTo(fingerprint2)));
+    assertThat(fingerprint2, not(equalTo(fingerprint3)));
+  }
+
+  @Test
+  public void differentDependenciesDifferentCacheId() {
+    PedanticDependencyOrderEnforcer rule = new PedanticDependencyOrderEnforcer();
+    String cacheId1 = RuleResultCache.createCacheId(rule, this.pom, this.project);
+
+    this.project.getDependencies().set(0, createDependency("compile"));
+    String cacheId2 = RuleResultCache.createCacheId(rule, this.pom, this.project);
+
+    assertThat(cacheId1, not(equalTo(cacheId2)));
+  }
+
+  @Test
+  public void dependenciesIgnoredIfResolvedProjectNotRequired() {
+    PedanticPomSectionOrderEnforcer rule = new PedanticPomSectionOrderEnforcer();
+    String cacheId1 = RuleResultCache.createCacheId(rule, this.pom, this.project);
+
+    this.project.getDependencies().set(0, createDependency("compile"));
+    String cacheId2 = RuleResultCache.createCacheId(rule, this.pom, this.project);
+
+    assertThat(cacheId1, equalTo(cacheId2));
+  }
+
+  @Test
+  public void cacheIdWithoutPom() {
+    PedanticDependencyScopeEnforcer rule = new PedanticDependencyScopeEnforcer();
+    String cacheId1 = RuleResultCache.createCacheId(rule, null, this.project);
+
+    this.project.getDependencies().set(0, createDependency("compile"));
+    String cacheId2 = RuleResultCache.createCacheId(rule, null, this.project);
+
+    assertThat(cacheId1, not(equalTo(cacheId2)));
+  }
+
+  @Test
+  public void resultIsComputedOnce() {
+    RuleResultCache cache = new RuleResultCache();
+    AtomicInteger invocations = new AtomicInteger();
+
+    Optional<String> result1 = cache.get("id", () -> Optional.of("error " + invocations.incrementAndGet()));
+    Optional<String> result2 = cache.get("id", () -> Optional.of("error " + invocations.incrementAndGet()));
+
+    assertThat(result1, equalTo(Optional.of("error 1")));
+    assertThat(result2, equalTo(result1));
+    assertThat(invocations.get(), is(1));
+  }
+
+  private static PedanticModuleOrderEnforcer createModuleOrderEnforcer(String ignoredModules) {
+    PedanticModuleOrderEnforcer rule = new PedanticModuleOrderEnforcer();
+    rule.setIgnoredModules(ignoredModules);
+    return rule;
+  }
+
+  private static void setField(AbstractPedanticEnforcer rule, String name, Object value) throws Exception {
+    Field field = AbstractPedanticEnforcer.class.getDeclaredField(name);
+    field.setAccessible(true);
+    field.set(rule, value);
+  }
+
+  private static Dependency createDependency(String scope) {
+    Dependency dependency = new Dependency();
+    dependency.setGroupId("x");
+    dependency.setArtifactId("y");
+    dependency.setScope(scope);
+    return dependency;
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import org.apache.maven.project.MavenProject;
+import org.junit.Test;
+import com.github.ferstl.maven.pomenforcers.model.ProjectModel;
+import com.github.ferstl.maven.pomenforcers.model.ProjectModelReader;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * JUnit tests for {@link StandaloneEnforcerRuleHelper}.
+ */
+public class StandaloneEnforcerRuleHelperTest {
+
+  @Test
+  public void rawProjectIsCreatedWithoutDocument() {
+    String pomContent = "<project xmlns='http://maven.apache.org/POM/4.0.0'>"
+        + "<groupId>com.example</groupId><artifactId>a</artifactId><packaging>pom</packaging>"
+        + "<properties><foo>bar</foo></properties>"
+        + "</project>";
+    ProjectModel projectModel = ProjectModelReader.read(new ByteArrayInputStream(pomContent.getBytes(UTF_8)), "pom.xml");
+    PomSnapshot pom = new PomSnapshot(new byte[0], () -> {
+      throw new AssertionError("The document must not be parsed");
+    }, () -> projectModel, PomSnapshot.ModelSource.STAX);
+
+    StandaloneEnforcerRuleHelper helper = new StandaloneEnforcerRuleHelper(new File("pom.xml"), pom);
+    MavenProject project = (MavenProject) helper.evaluate("${project}");
+
+    assertThat(project.getGroupId(), equalTo("com.example"));
+    assertThat(project.getArtifactId(), equalTo("a"));
+    assertThat(project.getPackaging(), equalTo("pom"));
+    assertThat(helper.evaluate("${foo}"), equalTo("bar"));
+    assertThat(helper.evaluate("${unknown}"), equalTo("${unknown}"));
+  }
+
+  @Test
+  public void defaultPackaging() {
+    PomSnapshot pom = PomSnapshot.read(new File("pom.xml"), "<project xmlns='http://maven.apache.org/POM/4.0.0'/>".getBytes(UTF_8));
+
+    MavenProject project = (MavenProject) new StandaloneEnforcerRuleHelper(new File("pom.xml"), pom).evaluate("${project}");
+
+    assertThat(project.getPackaging(), equalTo("jar"));
+  }
+
+  @Test
+  public void container() {
+    StandaloneEnforcerRuleHelper helper = new StandaloneEnforcerRuleHelper(new File("pom.xml"), PomSnapshot.read(new File("pom.xml")));
+
+    assertThat(helper.getContainer(), notNullValue());
+    assertThat(helper.getContainer(), sameInstance(helper.getContainer()));
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.Test;
+import com.google.common.collect.Ordering;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * JUnit tests for {@link StreamingElementOrderAnalyzer}.
+ */
+public class StreamingElementOrderAnalyzerTest {
+
+  private static final String DEPENDENCIES_PATH = "/project/dependencies/dependency";
+
+  private final StreamingElementOrderAnalyzer analyzer =
+      new StreamingElementOrderAnalyzer(Ordering.explicit(Arrays.asList("groupId", "artifactId")), Collections.singleton(DEPENDENCIES_PATH));
+
+  @Test
+  public void orderedElementsAreStreamedOnce() {
+    CountingContent content = new CountingContent("<project><dependencies>"
+        + "<dependency><groupId>a</groupId><artifactId>b</artifactId></dependency></dependencies></project>");
+
+    List<List<Map<String, String>>> result = this.analyzer.analyze(content, "test");
+
+    assertThat(result.get(0), empty());
+    assertThat(content.count.get(), equalTo(1));
+  }
+
+  @Test
+  public void contentIsOnlyCollectedForUnorderedElements() {
+    CountingContent content = new CountingContent("<project xmlns='http://maven.apache.org/POM/4.0.0'><dependencies>"
+        + "<dependency><groupId>a</groupId><artifactId>b</artifactId></dependency>"
+        + "<dependency><artifactId>d</artifactId><groupId>c</groupId></dependency></dependencies></project>");
+
+    List<List<Map<String, String>>> result = this.analyzer.analyze(content, "test");
+
+    assertThat(result.get(0), contains(createElement("d", "c")));
+    assertThat(content.count.get(), equalTo(2));
+  }
+
+  private static Map<String, String> createElement(String artifactId, String groupId) {
+    Map<String, String> element = new LinkedHashMap<>();
+    element.put("artifactId", artifactId);
+    element.put("groupId", groupId);
+    return element;
+  }
+
+  private static class CountingContent implements Supplier<InputStream> {
+
+    private final byte[] content;
+    private final AtomicInteger count = new AtomicInteger();
+
+    CountingContent(String content) {
+      this.content = content.getBytes(UTF_8);
+    }
+
+    @Override
+    public InputStream get() {
+      this.count.incrementAndGet();
+      return new ByteArrayInputStream(this.content);
+    }
+  }
+}
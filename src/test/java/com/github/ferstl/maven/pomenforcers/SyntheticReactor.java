@@ -0,0 +1,408 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Generates a multi-module reactor for scale and regression tests. The reactor consists of a root POM and a flat list
+ * of modules. The root POM manages all dependencies and plugins, the modules use a subset of them. The generated
+ * reactor only depends on the configuration and the seed, i.e. the same configuration always produces the same files.
+ * <p>
+ * A configurable ratio of the modules is deliberately unsorted. Each of these modules violates exactly one of the
+ * {@link PedanticEnforcerRule#POM_SECTION_ORDER}, {@link PedanticEnforcerRule#DEPENDENCY_ELEMENT} and
+ * {@link PedanticEnforcerRule#PLUGIN_ELEMENT} rules and additionally declares its dependencies in random order. If
+ * there is at least one unsorted module, the root POM's modules are unsorted, too.
+ * </p>
+ */
+public final class SyntheticReactor {
+
+  private static final String GROUP_ID = "com.example.reactor";
+  private static final String ROOT_ARTIFACT_ID = "reactor-root";
+  private static final String VERSION = "1.0.0-SNAPSHOT";
+  private static final int LIBRARY_GROUPS = 20;
+  /**
+   * The group ID of a library is derived from its index. This order sorts the indexes by group ID and artifact ID.
+   */
+  private static final Comparator<Integer> LIBRARY_ORDER = Comparator.<Integer>comparingInt(i -> i % LIBRARY_GROUPS)
+      .thenComparingInt(i -> i);
+
+  private final Path root;
+  private final List<Path> pomFiles;
+  private final SortedSet<Path> unsortedPomFiles;
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  private SyntheticReactor(Path root, List<Path> pomFiles, SortedSet<Path> unsortedPomFiles) {
+    this.root = root;
+    this.pomFiles = Collections.unmodifiableList(pomFiles);
+    this.unsortedPomFiles = Collections.unmodifiableSortedSet(unsortedPomFiles);
+  }
+
+  public Path getRoot() {
+    return this.root;
+  }
+
+  /**
+   * All generated POM files, the root POM first.
+   *
+   * @return The generated POM files.
+   */
+  public List<Path> getPomFiles() {
+    return this.pomFiles;
+  }
+
+  /**
+   * The POM files that were deliberately generated with unsorted sections.
+   *
+   * @return The unsorted POM files.
+   */
+  public SortedSet<Path> getUnsortedPomFiles() {
+    return this.unsortedPomFiles;
+  }
+
+  public static final class Builder {
+
+    private int modules = 10;
+    private int dependencies = 10;
+    private int managedDependencies = 100;
+    private int plugins = 3;
+    private int managedPlugins = 10;
+    private int bomImports = 0;
+    private boolean propertyCoordinates = false;
+    private double unsortedRatio = 0.0;
+    private long seed = 42;
+
+    private Builder() {
+    }
+
+    public Builder modules(int modules) {
+      this.modules = modules;
+      return this;
+    }
+
+    /**
+     * Number of dependencies of each module. The dependencies are picked from the managed dependencies.
+     */
+    public Builder dependencies(int dependencies) {
+      this.dependencies = dependencies;
+      return this;
+    }
+
+    public Builder managedDependencies(int managedDependencies) {
+      this.managedDependencies = managedDependencies;
+      return this;
+    }
+
+    /**
+     * Number of plugins of each module. The plugins are picked from the managed plugins.
+     */
+    public Builder plugins(int plugins) {
+      this.plugins = plugins;
+      return this;
+    }
+
+    public Builder managedPlugins(int managedPlugins) {
+      this.managedPlugins = managedPlugins;
+      return this;
+    }
+
+    /**
+     * Number of BOMs that are imported in the root POM's dependency management.
+     */
+    public Builder bomImports(int bomImports) {
+      this.bomImports = bomImports;
+      return this;
+    }
+
+    /**
+     * Use properties for the group IDs and versions of all dependencies and plugins. The properties are declared in
+     * the root POM.
+     */
+    public Builder propertyCoordinates(boolean propertyCoordinates) {
+      this.propertyCoordinates = propertyCoordinates;
+      return this;
+    }
+
+    /**
+     * Ratio of the modules (between 0.0 and 1.0) that are generated with unsorted sections.
+     */
+    public Builder unsortedRatio(double unsortedRatio) {
+      if (unsortedRatio < 0.0 || unsortedRatio > 1.0) {
+        throw new IllegalArgumentException("Unsorted ratio must be between 0.0 and 1.0: " + unsortedRatio);
+      }
+      this.unsortedRatio = unsortedRatio;
+      return this;
+    }
+
+    public Builder seed(long seed) {
+      this.seed = seed;
+      return this;
+    }
+
+    /**
+     * Writes the reactor to the given directory.
+     *
+     * @param directory The directory of the root POM. It will be created if it does not exist.
+     * @return The generated reactor.
+     * @throws IOException If the POM files cannot be written.
+     */
+    public SyntheticReactor write(Path directory) throws IOException {
+      if (this.dependencies > this.managedDependencies || this.plugins > this.managedPlugins) {
+        throw new IllegalArgumentException("Modules cannot use more dependencies or plugins than are managed.");
+      }
+
+      Random random = new Random(this.seed);
+      List<Path> pomFiles = new ArrayList<>(this.modules + 1);
+      SortedSet<Path> unsortedPomFiles = new TreeSet<>();
+
+      List<String> moduleNames = new ArrayList<>(this.modules);
+      List<Integer> unsortedModules = new ArrayList<>();
+      for (int i = 0; i < this.modules; i++) {
+        moduleNames.add(String.format("module-%05d", i));
+        if (random.nextDouble() < this.unsortedRatio) {
+          unsortedModules.add(i);
+        }
+      }
+
+      Path rootPom = directory.resolve("pom.xml");
+      pomFiles.add(rootPom);
+      List<String> declaredModules = new ArrayList<>(moduleNames);
+      if (!unsortedModules.isEmpty()) {
+        Collections.shuffle(declaredModules, random);
+        unsortedPomFiles.add(rootPom);
+      }
+      writePom(rootPom, createRootPom(declaredModules));
+
+      for (int i = 0; i < this.modules; i++) {
+        Path modulePom = directory.resolve(moduleNames.get(i)).resolve("pom.xml");
+        // Always draw the unsorted variant to keep the generated content independent of the unsorted ratio
+        int unsortedVariant = random.nextInt(3);
+        boolean unsorted = unsortedModules.contains(i);
+        writePom(modulePom, createModulePom(moduleNames.get(i), random, unsorted ? unsortedVariant : -1));
+
+        pomFiles.add(modulePom);
+        if (unsorted) {
+          unsortedPomFiles.add(modulePom);
+        }
+      }
+
+      return new SyntheticReactor(directory, pomFiles, unsortedPomFiles);
+    }
+
+    private String createRootPom(List<String> moduleNames) {
+      StringBuilder pom = startPom();
+      pom.append("  <groupId>").append(GROUP_ID).append("</groupId>\n")
+          .append("  <artifactId>").append(ROOT_ARTIFACT_ID).append("</artifactId>\n")
+          .append("  <version>").append(VERSION).append("</version>\n")
+          .append("  <packaging>pom</packaging>\n");
+
+      if (!moduleNames.isEmpty()) {
+        pom.append("  <modules>\n");
+        for (String moduleName : moduleNames) {
+          pom.append("    <module>").append(moduleName).append("</module>\n");
+        }
+        pom.append("  </modules>\n");
+      }
+
+      if (this.propertyCoordinates) {
+        pom.append("  <properties>\n");
+        for (int i = 0; i < LIBRARY_GROUPS; i++) {
+          appendProperty(pom, "library-group-" + i, libraryGroupId(i));
+        }
+        for (int i = 0; i < this.managedDependencies; i++) {
+          appendProperty(pom, libraryArtifactId(i) + ".version", version(i));
+        }
+        appendProperty(pom, "plugin-group", pluginGroupId());
+        for (int i = 0; i < this.managedPlugins; i++) {
+          appendProperty(pom, pluginArtifactId(i) + ".version", version(i));
+        }
+        pom.append("  </properties>\n");
+      }
+
+      pom.append("  <dependencyManagement>\n")
+          .append("    <dependencies>\n");
+      for (int i = 0; i < this.bomImports; i++) {
+        pom.append("      <dependency>\n")
+            .append("        <groupId>com.example.bom</groupId>\n")
+            .append("        <artifactId>").append(String.format("bom-%03d", i)).append("</artifactId>\n")
+            .append("        <version>").append(version(i)).append("</version>\n")
+            .append("        <type>pom</type>\n")
+            .append("        <scope>import</scope>\n")
+            .append("      </dependency>\n");
+      }
+      List<Integer> libraries = new ArrayList<>(this.managedDependencies);
+      for (int i = 0; i < this.managedDependencies; i++) {
+        libraries.add(i);
+      }
+      libraries.sort(LIBRARY_ORDER);
+      for (int i : libraries) {
+        pom.append("      <dependency>\n")
+            .append("        <groupId>").append(libraryGroupIdReference(i)).append("</groupId>\n")
+            .append("        <artifactId>").append(libraryArtifactId(i)).append("</artifactId>\n")
+            .append("        <version>").append(coordinate(libraryArtifactId(i) + ".version", version(i))).append("</version>\n")
+            .append("      </dependency>\n");
+      }
+      pom.append("    </dependencies>\n")
+          .append("  </dependencyManagement>\n")
+          .append("  <build>\n")
+          .append("    <pluginManagement>\n")
+          .append("      <plugins>\n");
+      for (int i = 0; i < this.managedPlugins; i++) {
+        pom.append("        <plugin>\n")
+            .append("          <groupId>").append(coordinate("plugin-group", pluginGroupId())).append("</groupId>\n")
+            .append("          <artifactId>").append(pluginArtifactId(i)).append("</artifactId>\n")
+            .append("          <version>").append(coordinate(pluginArtifactId(i) + ".version", version(i))).append("</version>\n")
+            .append("        </plugin>\n");
+      }
+      pom.append("      </plugins>\n")
+          .append("    </pluginManagement>\n")
+          .append("  </build>\n");
+
+      return pom.append("</project>\n").toString();
+    }
+
+    private String createModulePom(String moduleName, Random random, int unsortedVariant) {
+      List<Integer> dependencyIndexes = pick(random, this.managedDependencies, this.dependencies, LIBRARY_ORDER);
+      List<Integer> pluginIndexes = pick(random, this.managedPlugins, this.plugins, Comparator.naturalOrder());
+      if (unsortedVariant >= 0) {
+        Collections.shuffle(dependencyIndexes, random);
+      }
+
+      StringBuilder dependencies = new StringBuilder();
+      if (!dependencyIndexes.isEmpty()) {
+        dependencies.append("  <dependencies>\n");
+        for (int i = 0; i < dependencyIndexes.size(); i++) {
+          int index = dependencyIndexes.get(i);
+          String groupId = "      <groupId>" + libraryGroupIdReference(index) + "</groupId>\n";
+          String artifactId = "      <artifactId>" + libraryArtifactId(index) + "</artifactId>\n";
+          // DEPENDENCY_ELEMENT violation
+          boolean swapElements = unsortedVariant == 1 && i == 0;
+          dependencies.append("    <dependency>\n")
+              .append(swapElements ? artifactId : groupId)
+              .append(swapElements ? groupId : artifactId)
+              .append("    </dependency>\n");
+        }
+        dependencies.append("  </dependencies>\n");
+      }
+
+      StringBuilder pom = startPom();
+      pom.append("  <parent>\n")
+          .append("    <groupId>").append(GROUP_ID).append("</groupId>\n")
+          .append("    <artifactId>").append(ROOT_ARTIFACT_ID).append("</artifactId>\n")
+          .append("    <version>").append(VERSION).append("</version>\n")
+          .append("  </parent>\n");
+      // POM_SECTION_ORDER violation
+      if (unsortedVariant == 0) {
+        pom.append(dependencies);
+      }
+      pom.append("  <artifactId>").append(moduleName).append("</artifactId>\n");
+      if (unsortedVariant != 0) {
+        pom.append(dependencies);
+      }
+
+      if (!pluginIndexes.isEmpty()) {
+        pom.append("  <build>\n")
+            .append("    <plugins>\n");
+        for (int i = 0; i < pluginIndexes.size(); i++) {
+          int index = pluginIndexes.get(i);
+          String groupId = "        <groupId>" + coordinate("plugin-group", pluginGroupId()) + "</groupId>\n";
+          String artifactId = "        <artifactId>" + pluginArtifactId(index) + "</artifactId>\n";
+          // PLUGIN_ELEMENT violation
+          boolean swapElements = unsortedVariant == 2 && i == 0;
+          pom.append("      <plugin>\n")
+              .append(swapElements ? artifactId : groupId)
+              .append(swapElements ? groupId : artifactId)
+              .append("      </plugin>\n");
+        }
+        pom.append("    </plugins>\n")
+            .append("  </build>\n");
+      }
+
+      return pom.append("</project>\n").toString();
+    }
+
+    private String libraryGroupIdReference(int library) {
+      return coordinate("library-group-" + library % LIBRARY_GROUPS, libraryGroupId(library % LIBRARY_GROUPS));
+    }
+
+    private String coordinate(String property, String value) {
+      return this.propertyCoordinates ? "${" + property + "}" : value;
+    }
+
+    /**
+     * Picks {@code count} distinct indexes from {@code [0, bound)} in the given order.
+     */
+    private static List<Integer> pick(Random random, int bound, int count, Comparator<Integer> order) {
+      List<Integer> indexes = new ArrayList<>(bound);
+      for (int i = 0; i < bound; i++) {
+        indexes.add(i);
+      }
+      Collections.shuffle(indexes, random);
+      List<Integer> picked = new ArrayList<>(indexes.subList(0, count));
+      picked.sort(order);
+      return picked;
+    }
+
+    private static StringBuilder startPom() {
+      return new StringBuilder(1024)
+          .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+          .append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\" xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:schemaLocation=\"http://maven.apache.org/POM/4.0.0 http://maven.apache.org/xsd/maven-4.0.0.xsd\">\n")
+          .append("  <modelVersion>4.0.0</modelVersion>\n");
+    }
+
+    private static void appendProperty(StringBuilder pom, String name, String value) {
+      pom.append("    <").append(name).append('>').append(value).append("</").append(name).append(">\n");
+    }
+
+    private static void writePom(Path pomFile, String content) throws IOException {
+      Files.createDirectories(pomFile.getParent());
+      Files.write(pomFile, content.getBytes(UTF_8));
+    }
+
+    private static String libraryGroupId(int group) {
+      return String.format("com.example.library%02d", group);
+    }
+
+    private static String libraryArtifactId(int library) {
+      return String.format("library-%05d", library);
+    }
+
+    private static String pluginGroupId() {
+      return "com.example.plugins";
+    }
+
+    private static String pluginArtifactId(int plugin) {
+      return String.format("plugin-%03d-maven-plugin", plugin);
+    }
+
+    private static String version(int i) {
+      return "1." + i % 7 + "." + i % 13;
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * JUnit tests for {@link SyntheticReactor}.
+ */
+public class SyntheticReactorTest {
+
+  @Rule
+  public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+  @Test
+  public void deterministic() throws Exception {
+    SyntheticReactor.Builder builder = SyntheticReactor.builder()
+        .modules(20)
+        .bomImports(2)
+        .propertyCoordinates(true)
+        .unsortedRatio(0.5);
+
+    SyntheticReactor first = builder.write(this.tmpFolder.newFolder("first").toPath());
+    SyntheticReactor second = builder.write(this.tmpFolder.newFolder("second").toPath());
+
+    assertThat(first.getPomFiles(), hasSize(21));
+    for (int i = 0; i < first.getPomFiles().size(); i++) {
+      assertThat(Files.readAllBytes(second.getPomFiles().get(i)), equalTo(Files.readAllBytes(first.getPomFiles().get(i))));
+    }
+    assertThat(first.getUnsortedPomFiles().size(), equalTo(second.getUnsortedPomFiles().size()));
+  }
+
+  @Test
+  public void sortedReactor() throws Exception {
+    SyntheticReactor reactor = SyntheticReactor.builder()
+        .modules(50)
+        .dependencies(20)
+        .bomImports(3)
+        .write(this.tmpFolder.getRoot().toPath());
+
+    SortedMap<Path, String> errors = check(reactor);
+
+    assertThat(errors.toString(), errors.isEmpty(), equalTo(true));
+  }
+
+  @Test
+  public void unsortedReactor() throws Exception {
+    SyntheticReactor reactor = SyntheticReactor.builder()
+        .modules(50)
+        .dependencies(20)
+        .propertyCoordinates(true)
+        .unsortedRatio(0.3)
+        .write(this.tmpFolder.getRoot().toPath());
+
+    SortedMap<Path, String> errors = check(reactor);
+
+    assertThat(reactor.getUnsortedPomFiles(), not(hasSize(0)));
+    assertThat(errors.keySet(), equalTo(reactor.getUnsortedPomFiles()));
+  }
+
+  private static SortedMap<Path, String> check(SyntheticReactor reactor) {
+    Map<String, String> configuration = new HashMap<>();
+    configuration.put("checkDependencyManagementElements", "true");
+    return new PedanticPomChecker(configuration).check(Collections.singleton(reactor.getRoot()));
+  }
+}
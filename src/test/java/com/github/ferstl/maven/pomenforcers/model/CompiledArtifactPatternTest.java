@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.model;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+
+public class CompiledArtifactPatternTest {
+
+  @Test
+  public void exact() {
+    wildcardTest("artifact", "artifact", true);
+    wildcardTest("artifact-1", "artifact", false);
+  }
+
+  @Test
+  public void any() {
+    wildcardTest("something", "*", true);
+  }
+
+  @Test
+  public void suffix() {
+    wildcardTest("prefix-foo", "*-foo", true);
+    wildcardTest("prefix-bar", "*-foo", false);
+    wildcardTest("oo", "*-foo", false);
+  }
+
+  @Test
+  public void prefix() {
+    wildcardTest("foo-suffix", "foo-*", true);
+    wildcardTest("bar-suffix", "foo-*", false);
+    wildcardTest("fo", "foo-*", false);
+  }
+
+  @Test
+  public void contains() {
+    wildcardTest("foo-contains-bar", "*contains*", true);
+    wildcardTest("foo-something-bar", "*contains*", false);
+    wildcardTest("contains-bar", "*contains*", true);
+    wildcardTest("foo-contains", "*contains*", true);
+    wildcardTest("contain", "*contains*", false);
+    wildcardTest("anything", "**", true);
+  }
+
+  @Test
+  public void matchesArtifactModel() {
+    CompiledArtifactPattern pattern = CompiledArtifactPattern.compile(new ArtifactModel("com.example.*", "*-api"));
+
+    assertTrue(pattern.matches(new ArtifactModel("com.example.foo", "foo-api", "1.0")));
+    assertFalse(pattern.matches(new ArtifactModel("com.example.foo", "foo-impl", "1.0")));
+    assertFalse(pattern.matches(null));
+  }
+
+  @Test
+  public void getPattern() {
+    ArtifactModel model = new ArtifactModel("group", "*");
+    CompiledArtifactPattern pattern = CompiledArtifactPattern.compile(model);
+
+    assertSame(model, pattern.getPattern());
+    assertEquals("group:*:", pattern.toString());
+  }
+
+  @Test
+  public void equalsPattern() {
+    CompiledArtifactPattern pattern = CompiledArtifactPattern.compile(new ArtifactModel("group", "*"));
+
+    assertEquals(CompiledArtifactPattern.compile(new ArtifactModel("group", "*", "1.0")), pattern);
+    assertEquals(CompiledArtifactPattern.compile(new ArtifactModel("group", "*")).hashCode(), pattern.hashCode());
+    assertFalse(pattern.equals(CompiledArtifactPattern.compile(new ArtifactModel("group", "a*"))));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidWildcard() {
+    CompiledArtifactPattern.validate("invalid*wildcard*positions");
+  }
+
+  private void wildcardTest(String string, String pattern, boolean shouldMatch) {
+    CompiledArtifactPattern groupIdPattern = CompiledArtifactPattern.compile(new ArtifactModel(pattern, "artifact"));
+    CompiledArtifactPattern artifactIdPattern = CompiledArtifactPattern.compile(new ArtifactModel("group", pattern));
+
+    assertEquals(shouldMatch, groupIdPattern.matches(string, "artifact"));
+    assertEquals(shouldMatch, artifactIdPattern.matches("group", string));
+    assertEquals(shouldMatch, CompiledArtifactPattern.matchesWildcard(string, pattern));
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.model;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.xml.bind.JAXB;
+import org.apache.maven.model.Build;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.junit.Test;
+import static com.github.ferstl.maven.pomenforcers.model.ProjectModelDescription.describe;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+/**
+ * JUnit tests for {@link ProjectModelConverter}.
+ */
+public class ProjectModelConverterTest {
+
+  @Test
+  public void equivalentToJaxbForAllTestProjects() throws Exception {
+    List<Path> pomFiles;
+    try (Stream<Path> files = Files.walk(Paths.get("src/test/projects"))) {
+      pomFiles = files.filter(file -> file.getFileName().toString().equals("pom.xml")).collect(Collectors.toList());
+    }
+
+    assertThat(pomFiles.size(), greaterThan(10));
+    for (Path pomFile : pomFiles) {
+      Model model;
+      try (InputStream is = Files.newInputStream(pomFile)) {
+        model = new MavenXpp3Reader().read(is, false);
+      }
+
+      ProjectModel expected = JAXB.unmarshal(pomFile.toFile(), ProjectModel.class);
+      assertThat(pomFile.toString(), describe(ProjectModelConverter.convert(model)), equalTo(describe(expected)));
+    }
+  }
+
+  @Test
+  public void pluginConfiguration() {
+    Xpp3Dom configuration = new Xpp3Dom("configuration");
+    configuration.addChild(new Xpp3Dom("a"));
+    configuration.addChild(new Xpp3Dom("b"));
+    Plugin configuredPlugin = new Plugin();
+    configuredPlugin.setArtifactId("configured");
+    configuredPlugin.setConfiguration(configuration);
+    Plugin plugin = new Plugin();
+    plugin.setArtifactId("plugin");
+    Model model = new Model();
+    model.setBuild(new Build());
+    model.getBuild().addPlugin(configuredPlugin);
+    model.getBuild().addPlugin(plugin);
+
+    List<PluginModel> plugins = ProjectModelConverter.convert(model).getPlugins();
+
+    assertThat(plugins.get(0).getConfigurationSize(), equalTo(2));
+    assertThat(plugins.get(0).isConfigured(), equalTo(true));
+    assertThat(plugins.get(1).isConfigured(), equalTo(false));
+    assertThat(plugins.get(1).getGroupId(), equalTo("org.apache.maven.plugins"));
+  }
+}
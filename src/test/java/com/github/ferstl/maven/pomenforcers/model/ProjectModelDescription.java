@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Describes all properties of a {@link ProjectModel} for comparisons in tests. The model classes cannot be compared
+ * with <code>equals()</code> because the JAXB model contains the DOM elements of the plugin configuration.
+ */
+final class ProjectModelDescription {
+
+  private static final String DEFAULT_PLUGIN_GROUP_ID = "org.apache.maven.plugins";
+  private static final String DEFAULT_PACKAGING = "jar";
+
+  private ProjectModelDescription() {
+    throw new AssertionError("Not instantiable");
+  }
+
+  static List<String> describe(ProjectModel projectModel) {
+    List<String> description = new ArrayList<>();
+    description.add(projectModel.groupId + ":" + projectModel.artifactId);
+    // Maven's model uses the default packaging if a project does not declare it
+    description.add("packaging " + (projectModel.getPackaging() != null ? projectModel.getPackaging() : DEFAULT_PACKAGING));
+    description.add("properties " + new TreeMap<>(projectModel.getProperties()));
+    description.add("modules " + projectModel.getModules());
+    describeDependencies(description, "dependency management", projectModel.getManagedDependencies());
+    describeDependencies(description, "dependencies", projectModel.getDependencies());
+    describePlugins(description, "plugin management", projectModel.getManagedPlugins());
+    describePlugins(description, "plugins", projectModel.getPlugins());
+    return description;
+  }
+
+  private static void describeDependencies(List<String> description, String section, List<DependencyModel> dependencies) {
+    description.add(section);
+    for (DependencyModel dependency : dependencies) {
+      description.add(dependency + " " + dependency.getVersion() + " exclusions " + dependency.getExclusions());
+    }
+  }
+
+  private static void describePlugins(List<String> description, String section, List<PluginModel> plugins) {
+    description.add(section);
+    for (PluginModel plugin : plugins) {
+      // Maven's model uses the default group ID if a plugin does not declare it
+      String groupId = plugin.getGroupId() != null ? plugin.getGroupId() : DEFAULT_PLUGIN_GROUP_ID;
+      description.add(groupId + ":" + plugin.getArtifactId() + ":" + plugin.getVersion() + " configured " + plugin.isConfigured());
+      describeDependencies(description, "plugin dependencies", plugin.getDependencies());
+    }
+  }
+}
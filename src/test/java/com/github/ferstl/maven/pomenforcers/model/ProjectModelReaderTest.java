@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.xml.bind.JAXB;
+import org.junit.Test;
+import static com.github.ferstl.maven.pomenforcers.model.ProjectModelDescription.describe;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+
+/**
+ * JUnit tests for {@link ProjectModelReader}.
+ */
+public class ProjectModelReaderTest {
+
+  @Test
+  public void equivalentToJaxbForAllTestProjects() throws Exception {
+    List<Path> pomFiles;
+    try (Stream<Path> files = Files.walk(Paths.get("src/test/projects"))) {
+      pomFiles = files.filter(file -> file.getFileName().toString().endsWith(".xml")).collect(Collectors.toList());
+    }
+
+    assertThat(pomFiles.size(), greaterThan(10));
+    for (Path pomFile : pomFiles) {
+      byte[] content = Files.readAllBytes(pomFile);
+      assertEquivalent(pomFile.toString(), content);
+    }
+  }
+
+  @Test
+  public void equivalentToJaxbForEdgeCases() throws Exception {
+    assertEquivalent("no namespace", "<project><groupId>a</groupId><modules><module>m</module></modules></project>");
+    assertEquivalent("foreign namespace", "<project xmlns='http://maven.apache.org/POM/4.0.0' xmlns:x='urn:x'>"
+        + "<x:groupId>x</x:groupId><artifactId>a</artifactId><modules><x:module>x</x:module><module>m</module></modules></project>");
+    assertEquivalent("empty sections", "<project xmlns='http://maven.apache.org/POM/4.0.0'>"
+        + "<modules/><dependencies/><dependencyManagement/><build><plugins><plugin><configuration/></plugin></plugins></build></project>");
+    assertEquivalent("text content", "<project xmlns='http://maven.apache.org/POM/4.0.0'>"
+        + "<groupId> a<!-- comment -->b<![CDATA[<c>]]>&amp;d </groupId><artifactId>a</artifactId></project>");
+    assertEquivalent("unknown scope", "<project xmlns='http://maven.apache.org/POM/4.0.0'><dependencies>"
+        + "<dependency><groupId>a</groupId><artifactId>b</artifactId><scope>unknown</scope></dependency></dependencies></project>");
+    assertEquivalent("duplicate elements", "<project xmlns='http://maven.apache.org/POM/4.0.0'>"
+        + "<groupId>a</groupId><groupId>b</groupId><dependencies><dependency><groupId>a</groupId></dependency></dependencies>"
+        + "<dependencies><dependency><groupId>b</groupId></dependency></dependencies></project>");
+    assertEquivalent("packaging and properties", "<project xmlns='http://maven.apache.org/POM/4.0.0' xmlns:x='urn:x'>"
+        + "<packaging>pom</packaging><properties><a> 1 </a><x:b>2</x:b><c/></properties></project>");
+  }
+
+  @Test
+  public void pluginConfiguration() {
+    ProjectModel projectModel = read("<project xmlns='http://maven.apache.org/POM/4.0.0'><build><plugins>"
+        + "<plugin><artifactId>a</artifactId><configuration><a>1</a><b><c/></b></configuration></plugin>"
+        + "<plugin><artifactId>b</artifactId><configuration>text</configuration></plugin>"
+        + "<plugin><artifactId>c</artifactId></plugin>"
+        + "</plugins></build></project>");
+
+    List<PluginModel> plugins = projectModel.getPlugins();
+    assertThat(plugins, hasSize(3));
+    assertThat(plugins.get(0).getConfigurationSize(), equalTo(2));
+    assertThat(plugins.get(0).isConfigured(), equalTo(true));
+    assertThat(plugins.get(1).isConfigured(), equalTo(false));
+    assertThat(plugins.get(2).isConfigured(), equalTo(false));
+  }
+
+  @Test
+  public void exclusions() {
+    ProjectModel projectModel = read("<project xmlns='http://maven.apache.org/POM/4.0.0'><dependencies><dependency>"
+        + "<groupId>a</groupId><artifactId>b</artifactId>"
+        + "<exclusions><exclusion><groupId>c</groupId><artifactId>*</artifactId></exclusion></exclusions>"
+        + "</dependency></dependencies></project>");
+
+    assertThat(projectModel.getDependencies().get(0).getExclusions(), contains(new ArtifactModel("c", "*")));
+    assertThat(projectModel.getManagedDependencies(), empty());
+  }
+
+  private static ProjectModel read(String pom) {
+    return ProjectModelReader.read(new ByteArrayInputStream(pom.getBytes(UTF_8)), "test");
+  }
+
+  private static void assertEquivalent(String description, String pom) throws IOException {
+    assertEquivalent(description, pom.getBytes(UTF_8));
+  }
+
+  private static void assertEquivalent(String description, byte[] content) throws IOException {
+    ProjectModel expected;
+    try (InputStream is = new ByteArrayInputStream(content)) {
+      expected = JAXB.unmarshal(is, ProjectModel.class);
+    }
+    ProjectModel actual = ProjectModelReader.read(new ByteArrayInputStream(content), description);
+
+    assertThat(description, describe(actual), equalTo(describe(expected)));
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.model;
+
+import java.io.File;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.xml.bind.JAXB;
+import javax.xml.transform.dom.DOMSource;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import com.github.ferstl.maven.pomenforcers.util.XmlUtils;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+
+/**
+ * JUnit tests for {@link ProjectModelUnmarshaller}.
+ */
+public class ProjectModelUnmarshallerTest {
+
+  private static final File POM_FILE = new File("src/test/projects/example-project/pom.xml");
+
+  @Test
+  public void unmarshal() {
+    Document pom = XmlUtils.parseXml(POM_FILE);
+
+    ProjectModel projectModel = ProjectModelUnmarshaller.unmarshal(new DOMSource(pom));
+
+    // PluginModel relies on DOM elements which don't implement equals()
+    assertThat(projectModel.toString(), equalTo(JAXB.unmarshal(POM_FILE, ProjectModel.class).toString()));
+  }
+
+  @Test
+  public void concurrentUnmarshal() {
+    String expected = JAXB.unmarshal(POM_FILE, ProjectModel.class).toString();
+
+    List<String> projectModels = IntStream.range(0, 100)
+        .parallel()
+        .mapToObj(i -> ProjectModelUnmarshaller.unmarshal(new DOMSource(XmlUtils.parseXml(POM_FILE))).toString())
+        .collect(Collectors.toList());
+
+    assertThat(projectModels, everyItem(equalTo(expected)));
+  }
+}
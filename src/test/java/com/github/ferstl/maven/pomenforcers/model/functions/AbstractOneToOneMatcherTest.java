@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.model.functions;
+
+import java.util.Arrays;
+import java.util.Locale;
+import org.junit.Test;
+import com.google.common.collect.BiMap;
+import static org.junit.Assert.assertEquals;
+
+public class AbstractOneToOneMatcherTest {
+
+  @Test
+  public void subsetKeyDefaultsToSupersetKey() {
+    BiMap<String, String> matches = new CaseInsensitiveMatcher(true).match(Arrays.asList("A", "B"), Arrays.asList("b", "a"));
+
+    assertEquals("a", matches.get("A"));
+    assertEquals("b", matches.get("B"));
+  }
+
+  @Test
+  public void matchWithoutKeys() {
+    BiMap<String, String> matches = new CaseInsensitiveMatcher(false).match(Arrays.asList("A", "B"), Arrays.asList("b", "a"));
+
+    assertEquals("a", matches.get("A"));
+    assertEquals("b", matches.get("B"));
+  }
+
+  private static class CaseInsensitiveMatcher extends AbstractOneToOneMatcher<String, String> {
+
+    private final boolean keys;
+
+    CaseInsensitiveMatcher(boolean keys) {
+      super(null);
+      this.keys = keys;
+    }
+
+    @Override
+    protected String transform(String supersetItem) {
+      return supersetItem;
+    }
+
+    @Override
+    protected boolean matches(String supersetItem, String subsetItem) {
+      return supersetItem.equalsIgnoreCase(subsetItem);
+    }
+
+    @Override
+    protected Object supersetKey(String supersetItem) {
+      return this.keys ? supersetItem.toLowerCase(Locale.ROOT) : null;
+    }
+  }
+}
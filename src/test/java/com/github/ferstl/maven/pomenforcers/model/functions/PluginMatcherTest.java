@@ -15,11 +15,14 @@
  */
 package com.github.ferstl.maven.pomenforcers.model.functions;
 
+import java.util.Arrays;
+import java.util.Collections;
 import org.apache.maven.enforcer.rule.api.EnforcerRuleHelper;
 import org.apache.maven.model.Plugin;
 import org.junit.Before;
 import org.junit.Test;
 import com.github.ferstl.maven.pomenforcers.model.PluginModel;
+import com.google.common.collect.BiMap;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -73,4 +76,36 @@ public class PluginMatcherTest {
 
     assertTrue(this.pluginMatcher.matches(supersetPlugin, subsetPlugin));
   }
+
+  @Test
+  public void match() {
+    Plugin plugin1 = createPlugin("a", "b");
+    Plugin plugin2 = createPlugin("org.apache.maven.plugins", "b");
+    Plugin plugin3 = createPlugin("a", "c");
+    PluginModel subsetPlugin1 = new PluginModel("a", "c", "1.0");
+    PluginModel subsetPlugin2 = new PluginModel(null, "b", "1.0");
+
+    BiMap<PluginModel, PluginModel> matches =
+        this.pluginMatcher.match(Arrays.asList(plugin1, plugin2, plugin3), Arrays.asList(subsetPlugin1, subsetPlugin2));
+
+    assertEquals(2, matches.size());
+    assertEquals("a:c", toString(matches.inverse().get(subsetPlugin1)));
+    assertEquals("org.apache.maven.plugins:b", toString(matches.inverse().get(subsetPlugin2)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void matchUnmatchedItem() {
+    this.pluginMatcher.match(Collections.singletonList(createPlugin("a", "b")), Collections.singletonList(new PluginModel("a", "c", "1.0")));
+  }
+
+  private static Plugin createPlugin(String groupId, String artifactId) {
+    Plugin plugin = new Plugin();
+    plugin.setGroupId(groupId);
+    plugin.setArtifactId(artifactId);
+    return plugin;
+  }
+
+  private static String toString(PluginModel plugin) {
+    return plugin.getGroupId() + ":" + plugin.getArtifactId();
+  }
 }
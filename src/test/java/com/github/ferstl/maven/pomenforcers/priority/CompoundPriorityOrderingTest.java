@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.priority;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+import com.github.ferstl.maven.pomenforcers.model.DependencyElement;
+import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
+import static com.github.ferstl.maven.pomenforcers.model.DependencyElement.ARTIFACT_ID;
+import static com.github.ferstl.maven.pomenforcers.model.DependencyElement.GROUP_ID;
+import static com.github.ferstl.maven.pomenforcers.model.DependencyElement.SCOPE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+
+public class CompoundPriorityOrderingTest {
+
+  private static final DependencyModel A_Z = new DependencyModel("a", "z", "1.0", null, null, null);
+  private static final DependencyModel B_Y = new DependencyModel("b", "y", "1.0", null, null, null);
+
+  private CompoundPriorityOrdering<DependencyModel, String, DependencyElement> ordering;
+
+  @Before
+  public void before() {
+    this.ordering = CompoundPriorityOrdering.orderBy(GROUP_ID, ARTIFACT_ID);
+  }
+
+  @Test
+  public void compare() {
+    assertThat(this.ordering.compare(A_Z, B_Y), lessThan(0));
+    assertThat(this.ordering.compare(B_Y, A_Z), greaterThan(0));
+  }
+
+  @Test
+  public void setPrioritiesAfterCompare() {
+    assertThat(this.ordering.compare(A_Z, B_Y), lessThan(0));
+
+    this.ordering.setPriorities(GROUP_ID, Collections.singletonList("b"));
+
+    assertThat(this.ordering.compare(A_Z, B_Y), greaterThan(0));
+  }
+
+  @Test
+  public void redefineOrderByAfterCompare() {
+    assertThat(this.ordering.compare(A_Z, B_Y), lessThan(0));
+
+    this.ordering.redefineOrderBy(Arrays.asList(ARTIFACT_ID, GROUP_ID));
+
+    assertThat(this.ordering.compare(A_Z, B_Y), greaterThan(0));
+  }
+
+  @Test
+  public void sortedCopySortsLikeCompare() {
+    this.ordering.redefineOrderBy(Arrays.asList(SCOPE, GROUP_ID, ARTIFACT_ID));
+    this.ordering.setPriorities(SCOPE, Arrays.asList("test", "compile"));
+    this.ordering.setPriorities(GROUP_ID, Arrays.asList("org.", "com.example"));
+    this.ordering.setPriorities(ARTIFACT_ID, Collections.singletonList("b"));
+    List<DependencyModel> dependencies = createRandomDependencies();
+
+    List<DependencyModel> expected = new ArrayList<>(dependencies);
+    expected.sort(this.ordering::compare);
+    List<DependencyModel> sorted = this.ordering.sortedCopy(dependencies);
+
+    assertThat(sorted, equalTo(expected));
+    assertThat(this.ordering.immutableSortedCopy(dependencies), equalTo(expected));
+    assertThat(this.ordering.isOrdered(sorted), is(true));
+    assertThat(this.ordering.isOrdered(dependencies), is(false));
+  }
+
+  private static List<DependencyModel> createRandomDependencies() {
+    Random random = new Random(42);
+    List<String> groupIds = Arrays.asList("org.a", "org.b", "com.example", "com.example.x", "net.c");
+    List<String> artifactIds = Arrays.asList("a", "b", "ba", "c");
+    List<String> scopes = Arrays.asList("compile", "test", "runtime", "provided");
+
+    List<DependencyModel> dependencies = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      dependencies.add(new DependencyModel(
+          groupIds.get(random.nextInt(groupIds.size())),
+          artifactIds.get(random.nextInt(artifactIds.size())),
+          "1.0",
+          scopes.get(random.nextInt(scopes.size())),
+          null,
+          null));
+    }
+
+    return dependencies;
+  }
+}
@@ -20,6 +20,7 @@ import java.util.function.Function;
 import org.hamcrest.Matchers;
 import org.junit.Test;
 import com.google.common.collect.Lists;
+import static com.github.ferstl.maven.pomenforcers.model.functions.StringStartsWithEquivalence.stringStartsWith;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.lessThan;
@@ -60,5 +61,20 @@ public class PriorityOrderingTest {
     assertThat(testComparator.compare("b", "a"), greaterThan(0));
   }
 
+  @Test
+  public void testCompareWithPrefixes() {
+    ArrayList<String> prioritizedItems = Lists.newArrayList("com.", "org.", "com.example", "");
+    Function<String, String> identity = Function.identity();
+    PriorityOrdering<String, String> testComparator = new PriorityOrdering<>(prioritizedItems, identity, stringStartsWith());
+
+    // the first matching prefix in the priority list applies, not the longest one
+    assertThat(testComparator.compare("com.example.a", "org.a"), lessThan(0));
+    // org.a matches "org."
+    assertThat(testComparator.compare("org.a", "com.a"), greaterThan(0));
+    // everything matches the empty prefix
+    assertThat(testComparator.compare("net.a", "org.a"), greaterThan(0));
+    assertThat(testComparator.compare("net.a", "at.b"), greaterThan(0));
+    assertThat(testComparator.compare("co", "com.a"), greaterThan(0));
+  }
 
 }
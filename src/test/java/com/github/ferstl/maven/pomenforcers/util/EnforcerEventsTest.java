@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2012 - 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.util;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class EnforcerEventsTest {
+
+  private static final String RULE_EXECUTION = "com.github.ferstl.pomenforcers.RuleExecution";
+  private static final String XML_PARSING = "com.github.ferstl.pomenforcers.XmlParsing";
+  private static final String DIFF = "com.github.ferstl.pomenforcers.Diff";
+
+  @Rule
+  public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+  @Test
+  public void eventsCarryModuleAndRule() throws Exception {
+    List<RecordedEvent> events;
+    try (Recording recording = new Recording()) {
+      recording.enable(RULE_EXECUTION).withoutThreshold();
+      recording.enable(XML_PARSING).withoutThreshold();
+      recording.enable(DIFF).withoutThreshold();
+      recording.start();
+
+      EnforcerEvents.Scope scope = EnforcerEvents.ruleExecution("com.example:module", "POM_SECTION_ORDER");
+      try {
+        XmlUtils.parseXml(new ByteArrayInputStream("<project/>".getBytes(UTF_8)), "file:/pom.xml");
+        SideBySideDiffUtil.diff(Arrays.asList("b", "a"), Arrays.asList("a", "b"), "Actual", "Required");
+      } finally {
+        scope.close();
+      }
+      assertThat(EnforcerEvents.getCurrentModule(), nullValue());
+
+      recording.stop();
+      Path recordingFile = this.tmpFolder.newFile("recording.jfr").toPath();
+      recording.dump(recordingFile);
+      events = RecordingFile.readAllEvents(recordingFile);
+    }
+
+    assertThat(events.stream().map(e -> e.getEventType().getName()).collect(toList()), contains(XML_PARSING, DIFF, RULE_EXECUTION));
+    for (RecordedEvent event : events) {
+      assertThat(event.getString("module"), is("com.example:module"));
+      assertThat(event.getString("rule"), is("POM_SECTION_ORDER"));
+    }
+    assertThat(events.get(0).getString("systemId"), is("file:/pom.xml"));
+    assertThat(events.get(1).getInt("actualSize"), is(2));
+  }
+}
@@ -24,6 +24,8 @@ import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class EnforcerRuleUtilsTest {
@@ -45,4 +47,14 @@ public class EnforcerRuleUtilsTest {
     assertThat(evaluateProperties(null, this.mockHelper), nullValue());
   }
 
+  @Test
+  public void testEvaluatePropertiesOncePerHelper() throws Exception {
+    evaluateProperties("${project.groupId}", this.mockHelper);
+    evaluateProperties("foo-${project.groupId}", this.mockHelper);
+    evaluateProperties("${project.groupId}-${project.version}", this.mockHelper);
+
+    verify(this.mockHelper, times(1)).evaluate("${project.groupId}");
+    verify(this.mockHelper, times(1)).evaluate("${project.version}");
+  }
+
 }